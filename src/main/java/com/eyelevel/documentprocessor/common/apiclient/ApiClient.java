@@ -4,12 +4,14 @@ import com.eyelevel.documentprocessor.common.apiclient.authentication.Authentica
 import com.eyelevel.documentprocessor.common.apiclient.model.ApiRequest;
 import com.eyelevel.documentprocessor.common.apiclient.model.ApiResponse;
 import com.eyelevel.documentprocessor.common.apiclient.model.HeaderConfig;
+import com.eyelevel.documentprocessor.common.apiclient.resilience.ApiResilience;
 import com.eyelevel.documentprocessor.exception.apiclient.InternalServerException;
 import com.eyelevel.documentprocessor.exception.apiclient.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerSentEvent;
@@ -23,6 +25,9 @@ import reactor.core.publisher.Mono;
 import java.net.ConnectException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
@@ -42,6 +47,11 @@ public abstract class ApiClient {
     protected final WebClient webClient;
     protected final Authentication authentication;
     protected final HeaderConfig headerConfig;
+    /**
+     * Rate limiting, circuit breaking and retries applied to {@link #exchange(ApiRequest)}; {@code null} to send every
+     * request exactly once.
+     */
+    protected final ApiResilience resilience;
 
     /**
      * Executes an API call based on the provided {@link ApiRequest}. This method configures the
@@ -55,18 +65,8 @@ public abstract class ApiClient {
      * @throws ApiException If there is an error during the API call.
      */
     protected ApiResponse call(@NonNull ApiRequest apiRequest) {
-        Objects.requireNonNull(apiRequest, "apiRequest must not be null"); // Defensive programming
-        log.info("Calling API with method: {} and path: {}", apiRequest.getMethod(), apiRequest.getPath());
-        log.debug("ApiRequest details: {}", apiRequest);
-
         try {
-            WebClient.RequestBodySpec requestBodySpec = configureRequest(apiRequest);
-            configureHeaders(apiRequest, requestBodySpec);
-            configureBody(apiRequest, requestBodySpec);
-            log.debug("requestBodySpec properties : {}", requestBodySpec.getClass());
-
-            ApiResponse apiResponse = requestBodySpec.exchangeToMono(this::handleResponse).timeout(DEFAULT_TIMEOUT)
-                                                     .onErrorMap(this::mapException).block();
+            ApiResponse apiResponse = exchange(apiRequest).block();
             log.debug("Received apiResponse: {}", apiResponse);
             return apiResponse;
 
@@ -79,6 +79,38 @@ public abstract class ApiClient {
         }
     }
 
+    /**
+     * The non-blocking form of {@link #call(ApiRequest)}. Nothing is sent until the returned {@link Mono} is
+     * subscribed, and every subscription sends the request again.
+     *
+     * @param apiRequest The API request to execute. Must not be null.
+     *
+     * @return A {@link Mono} emitting the API response, or an {@link ApiException} if the call fails.
+     */
+    protected Mono<ApiResponse> exchange(@NonNull ApiRequest apiRequest) {
+        Objects.requireNonNull(apiRequest, "apiRequest must not be null"); // Defensive programming
+
+        Mono<ApiResponse> exchange = Mono.defer(() -> {
+            log.info("Calling API with method: {} and path: {}", apiRequest.getMethod(), apiRequest.getPath());
+            log.debug("ApiRequest details: {}", apiRequest);
+            WebClient.RequestBodySpec requestBodySpec = configureRequest(apiRequest);
+            configureHeaders(apiRequest, requestBodySpec);
+            configureBody(apiRequest, requestBodySpec);
+            log.debug("requestBodySpec properties : {}", requestBodySpec.getClass());
+            return requestBodySpec.exchangeToMono(this::handleResponse).timeout(DEFAULT_TIMEOUT);
+        }).onErrorMap(this::mapException);
+
+        return resilience == null ? exchange : resilience.decorate(apiRequest.getPath(),
+                                                                   isIdempotent(apiRequest.getMethod()), exchange);
+    }
+
+    /**
+     * Only idempotent requests are resent after a failure whose outcome is unknown; see {@link ApiResilience}.
+     */
+    private static boolean isIdempotent(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
 
     public <T> Flux<ServerSentEvent<T>> consumeStream(ApiRequest apiRequest,
                                                       Consumer<ServerSentEvent<T>> chunkReceiveEvent,
@@ -114,6 +146,9 @@ public abstract class ApiClient {
      * @return A specific {@link RuntimeException} representing the error.
      */
     private RuntimeException mapException(Throwable error) {
+        if (error instanceof ApiException apiException) {
+            return apiException;
+        }
         log.warn("Mapping exception: {}", error.getMessage(), error);
         if (error instanceof WebClientResponseException webClientError) {
             String responseBody = webClientError.getResponseBodyAsString();
@@ -127,11 +162,17 @@ public abstract class ApiClient {
                    error instanceof java.net.UnknownHostException) {
             ServiceUnavailableException exception = new ServiceUnavailableException(
                     "Failed to connect to external service: " + error.getMessage());
+            // A connection that could not be opened never carried the request; any other I/O failure may have.
+            Throwable cause = error instanceof WebClientRequestException ? error.getCause() : error;
+            if (!(cause instanceof ConnectException) && !(cause instanceof java.net.UnknownHostException)) {
+                exception.markOutcomeUnknown();
+            }
             log.error("an exception to do the service is unavailable ", exception);
             return exception;
 
         } else if (error instanceof java.util.concurrent.TimeoutException) {
             GatewayTimeoutException exception = new GatewayTimeoutException("Request timed out: " + error.getMessage());
+            exception.markOutcomeUnknown();
             log.error("an time out exception was found ", exception);
             return exception;
 
@@ -293,12 +334,38 @@ public abstract class ApiClient {
      */
     private Mono<ApiResponse> handleErrorResponse(ClientResponse response, int statusCode) {
         log.warn("Handling error response, status code: {}", statusCode);
-        return response.bodyToMono(String.class).flatMap(body -> {
+        Duration retryAfter = parseRetryAfter(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        return response.bodyToMono(String.class).defaultIfEmpty("").flatMap(body -> {
             log.warn("Body has been parsed and it's printing an error: {}", body);
-            return Mono.error(createException(body, statusCode));
+            return Mono.error(createException(body, statusCode).withRetryAfter(retryAfter));
         });
     }
 
+    /**
+     * Parses a {@code Retry-After} header, given either as a number of seconds or as an HTTP date.
+     *
+     * @param value The header value, possibly {@code null}.
+     *
+     * @return The delay, or {@code null} if the header is absent or malformed.
+     */
+    private Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(Instant.now(), ZonedDateTime.parse(value.trim(),
+                        DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException ex) {
+                log.debug("Ignoring malformed Retry-After header: {}", value);
+                return null;
+            }
+        }
+    }
+
     /**
      * Creates an appropriate {@link ApiException} based on the provided HTTP status code and error
      * message.
@@ -3,13 +3,14 @@ package com.eyelevel.documentprocessor.common.apiclient.gx;
 import com.eyelevel.documentprocessor.common.apiclient.ApiClient;
 import com.eyelevel.documentprocessor.common.apiclient.authentication.Authentication;
 import com.eyelevel.documentprocessor.common.apiclient.model.ApiRequest;
-import com.eyelevel.documentprocessor.common.apiclient.model.ApiResponse;
 import com.eyelevel.documentprocessor.common.apiclient.model.HeaderConfig;
+import com.eyelevel.documentprocessor.common.apiclient.resilience.ApiResilience;
 import com.eyelevel.documentprocessor.common.json.JsonParser;
 import com.eyelevel.documentprocessor.dto.gx.creategxbucket.response.GXBucket;
 import com.eyelevel.documentprocessor.dto.gx.docupload.GXDocumentUploadParameters;
 import com.eyelevel.documentprocessor.dto.gx.docupload.request.GXUploadFileRequest;
 import com.eyelevel.documentprocessor.dto.gx.docupload.response.GXUploadDocumentResponse;
+import com.eyelevel.documentprocessor.dto.gx.listgxbuckets.response.GXBucketList;
 import com.eyelevel.documentprocessor.dto.gx.uploadstatus.response.IngestResponse;
 import com.eyelevel.documentprocessor.exception.apiclient.InternalServerException;
 import com.eyelevel.documentprocessor.exception.apiclient.ApiException;
@@ -19,9 +20,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -33,6 +37,8 @@ import java.util.UUID;
 @Service("gxApiClient")
 public class GXApiClient extends ApiClient {
 
+    private static final int BUCKET_PAGE_SIZE = 100;
+
     private final JsonParser jsonParser;
 
     @Value("${app.gx-client.endpoint.upload-file}")
@@ -44,6 +50,15 @@ public class GXApiClient extends ApiClient {
     @Value("${app.gx-client.endpoint.create-bucket}")
     private String createBucketEndpoint;
 
+    @Value("${app.gx-client.endpoint.list-buckets}")
+    private String listBucketsEndpoint;
+
+    @Value("${app.gx.callback.enabled}")
+    private boolean callbackEnabled;
+
+    @Value("${app.gx.callback.url}")
+    private String callbackUrl;
+
     /**
      * Constructs the GXApiClient with all required dependencies.
      *
@@ -51,12 +66,14 @@ public class GXApiClient extends ApiClient {
      * @param authentication The authentication strategy for signing requests.
      * @param headerConfig   A configuration object for any additional, static headers.
      * @param jsonParser     A utility for parsing JSON responses.
+     * @param resilience     The rate limiter, circuit breaker and retry policy guarding GX calls.
      */
     public GXApiClient(@Qualifier("gxWebClient") final WebClient webClient,
                        @Qualifier("gxAuthentication") final Authentication authentication,
                        @Qualifier("gxHeader") final HeaderConfig headerConfig,
-                       @Qualifier("jacksonJsonParser") final JsonParser jsonParser) {
-        super(webClient, authentication, headerConfig);
+                       @Qualifier("jacksonJsonParser") final JsonParser jsonParser,
+                       @Qualifier("gxResilience") final ApiResilience resilience) {
+        super(webClient, authentication, headerConfig, resilience);
         this.jsonParser = jsonParser;
     }
 
@@ -70,29 +87,55 @@ public class GXApiClient extends ApiClient {
      * @throws ApiException if the API call returns a client or server error.
      */
     public GXUploadDocumentResponse uploadDocument(final GXDocumentUploadParameters params) {
-        log.info("Requesting document upload to GX for file '{}' in bucket {}", params.fileName(), params.bucketId());
-        try {
-            GXUploadFileRequest.DocumentRequest docRequest = new GXUploadFileRequest.DocumentRequest(params.bucketId(),
-                                                                                                     params.fileName(),
-                                                                                                     params.fileType(),
-                                                                                                     params.sourceUrl());
-            GXUploadFileRequest payload = new GXUploadFileRequest(Collections.singletonList(docRequest));
+        return uploadDocuments(List.of(params));
+    }
+
+    /**
+     * Initiates the upload of several documents to GroundX in a single ingest request. GX tracks all of them
+     * under one process ID.
+     *
+     * @param params The parameters of each document to upload. Must not be empty.
+     *
+     * @return The response from GX, including the shared process ID for tracking.
+     *
+     * @throws ApiException if the API call returns a client or server error.
+     */
+    public GXUploadDocumentResponse uploadDocuments(final List<GXDocumentUploadParameters> params) {
+        return uploadDocumentsReactive(params).block();
+    }
 
+    /**
+     * The non-blocking form of {@link #uploadDocuments(List)}. The request is sent on subscription.
+     *
+     * @param params The parameters of each document to upload. Must not be empty.
+     *
+     * @return A {@link Mono} emitting the response from GX, or empty if GX returned no body.
+     */
+    public Mono<GXUploadDocumentResponse> uploadDocumentsReactive(final List<GXDocumentUploadParameters> params) {
+        return Mono.defer(() -> {
+            log.info("Requesting upload of {} document(s) to GX, starting with '{}' in bucket {}", params.size(),
+                     params.getFirst().fileName(), params.getFirst().bucketId());
+            List<GXUploadFileRequest.DocumentRequest> docRequests = params.stream().map(
+                    param -> new GXUploadFileRequest.DocumentRequest(param.bucketId(), param.fileName(),
+                                                                     param.fileType(), param.sourceUrl())).toList();
+            String ingestCallbackUrl = callbackEnabled && StringUtils.hasText(callbackUrl) ? callbackUrl : null;
+            GXUploadFileRequest payload = new GXUploadFileRequest(docRequests, ingestCallbackUrl);
             ApiRequest apiRequest = ApiRequest.builder().method(HttpMethod.POST).path(uploadDocumentEndpoint)
                                               .body(payload).contentType(MediaType.APPLICATION_JSON)
                                               .acceptMediaType(MediaType.APPLICATION_JSON).build();
 
-            ApiResponse apiResponse = call(apiRequest);
-            return jsonParser.parseObject(apiResponse.getData(), GXUploadDocumentResponse.class);
-
-        } catch (ApiException e) {
-            log.warn("API error during GX document upload for file '{}': {}", params.fileName(), e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("An unexpected error occurred while uploading document '{}' to bucket {}.", params.fileName(),
-                      params.bucketId(), e);
-            throw new InternalServerException("Unexpected error during document upload to GX.");
-        }
+            return exchange(apiRequest).mapNotNull(
+                    apiResponse -> jsonParser.parseObject(apiResponse.getData(), GXUploadDocumentResponse.class));
+        }).onErrorMap(e -> {
+            if (e instanceof ApiException) {
+                log.warn("API error during GX upload of {} document(s) starting with '{}': {}", params.size(),
+                         params.getFirst().fileName(), e.getMessage());
+                return e;
+            }
+            log.error("An unexpected error occurred while uploading {} document(s) to bucket {}.", params.size(),
+                      params.getFirst().bucketId(), e);
+            return new InternalServerException("Unexpected error during document upload to GX.");
+        });
     }
 
     /**
@@ -105,21 +148,75 @@ public class GXApiClient extends ApiClient {
      * @throws ApiException if the API call fails.
      */
     public GXBucket createGXBucket(final String bucketName) {
-        log.info("Requesting to create a new GX bucket named '{}'", bucketName);
-        try {
+        return createGXBucketReactive(bucketName).block();
+    }
+
+    /**
+     * The non-blocking form of {@link #createGXBucket(String)}. The request is sent on subscription.
+     *
+     * @param bucketName The desired name for the new bucket.
+     *
+     * @return A {@link Mono} emitting the new {@link GXBucket}, or empty if GX returned no body.
+     */
+    public Mono<GXBucket> createGXBucketReactive(final String bucketName) {
+        return Mono.defer(() -> {
+            log.info("Requesting to create a new GX bucket named '{}'", bucketName);
             ApiRequest apiRequest = ApiRequest.builder().method(HttpMethod.POST).path(createBucketEndpoint)
                                               .body(Map.of("name", bucketName)).contentType(MediaType.APPLICATION_JSON)
                                               .acceptMediaType(MediaType.APPLICATION_JSON).build();
 
-            ApiResponse apiResponse = call(apiRequest);
-            return jsonParser.parseObject(apiResponse.getData(), GXBucket.class);
-        } catch (ApiException e) {
-            log.warn("API error while creating GX bucket for name '{}': {}", bucketName, e.getMessage());
-            throw e;
-        } catch (Exception e) {
+            return exchange(apiRequest).mapNotNull(
+                    apiResponse -> jsonParser.parseObject(apiResponse.getData(), GXBucket.class));
+        }).onErrorMap(e -> {
+            if (e instanceof ApiException) {
+                log.warn("API error while creating GX bucket for name '{}': {}", bucketName, e.getMessage());
+                return e;
+            }
             log.error("An unexpected error occurred while creating the GX bucket for name '{}'.", bucketName, e);
-            throw new InternalServerException("Unexpected error during GX bucket creation.");
-        }
+            return new InternalServerException("Unexpected error during GX bucket creation.");
+        });
+    }
+
+    /**
+     * Looks up an existing GX bucket by its exact name, paging through the buckets of the account. The request is
+     * sent on subscription.
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A {@link Mono} emitting the ID of the first bucket with the name, or empty if there is none.
+     */
+    public Mono<Integer> findGXBucketIdByNameReactive(final String bucketName) {
+        return fetchBucketPage(null)
+                .expand(page -> StringUtils.hasText(page.nextToken()) ? fetchBucketPage(page.nextToken())
+                                                                      : Mono.empty())
+                .concatMapIterable(page -> page.buckets() != null ? page.buckets() : List.of())
+                .filter(bucket -> bucketName.equals(bucket.name()))
+                .map(GXBucket.Bucket::bucketId)
+                .next()
+                .onErrorMap(e -> {
+                    if (e instanceof ApiException) {
+                        log.warn("API error while looking up GX bucket '{}': {}", bucketName, e.getMessage());
+                        return e;
+                    }
+                    log.error("An unexpected error occurred while looking up GX bucket '{}'.", bucketName, e);
+                    return new InternalServerException("Unexpected error while listing GX buckets.");
+                });
+    }
+
+    private Mono<GXBucketList> fetchBucketPage(final String nextToken) {
+        return Mono.defer(() -> {
+            final Map<String, Object> queryParams = new HashMap<>();
+            queryParams.put("n", BUCKET_PAGE_SIZE);
+            if (nextToken != null) {
+                queryParams.put("nextToken", nextToken);
+            }
+            ApiRequest apiRequest = ApiRequest.builder().method(HttpMethod.GET).path(listBucketsEndpoint)
+                                              .queryParams(queryParams).acceptMediaType(MediaType.APPLICATION_JSON)
+                                              .build();
+
+            return exchange(apiRequest).mapNotNull(
+                    apiResponse -> jsonParser.parseObject(apiResponse.getData(), GXBucketList.class));
+        });
     }
 
     /**
@@ -132,20 +229,39 @@ public class GXApiClient extends ApiClient {
      * @throws ApiException if the API call fails.
      */
     public IngestResponse fetchUploadDocumentStatus(final UUID processId) {
-        log.info("Fetching GX ingestion status for process ID: {}", processId);
-        try {
+        return fetchUploadDocumentStatusReactive(processId).block();
+    }
+
+    /**
+     * The non-blocking form of {@link #fetchUploadDocumentStatus(UUID)}. The request is sent on subscription.
+     *
+     * @param processId The unique identifier of the ingestion process.
+     *
+     * @return A {@link Mono} emitting the detailed status, or empty if GX returned no body.
+     */
+    public Mono<IngestResponse> fetchUploadDocumentStatusReactive(final UUID processId) {
+        return Mono.defer(() -> {
+            log.info("Fetching GX ingestion status for process ID: {}", processId);
             ApiRequest apiRequest = ApiRequest.builder().method(HttpMethod.GET).path(fetchStatusEndpoint)
                                               .pathVariables(Map.of("processId", processId))
                                               .acceptMediaType(MediaType.APPLICATION_JSON).build();
 
-            ApiResponse apiResponse = call(apiRequest);
-            return jsonParser.parseObject(apiResponse.getData(), IngestResponse.class);
-        } catch (ApiException e) {
-            log.warn("API error while fetching status for process ID '{}': {}", processId, e.getMessage());
-            throw e;
-        } catch (Exception e) {
+            return exchange(apiRequest).mapNotNull(
+                    apiResponse -> jsonParser.parseObject(apiResponse.getData(), IngestResponse.class));
+        }).onErrorMap(e -> {
+            if (e instanceof ApiException) {
+                log.warn("API error while fetching status for process ID '{}': {}", processId, e.getMessage());
+                return e;
+            }
             log.error("An unexpected error occurred while fetching status for process ID '{}'.", processId, e);
-            throw new InternalServerException("Unexpected error while fetching process status from GX.");
-        }
+            return new InternalServerException("Unexpected error while fetching process status from GX.");
+        });
+    }
+
+    /**
+     * @return Whether GX calls are currently let through by the circuit breaker.
+     */
+    public boolean isAvailable() {
+        return resilience.isCallPermitted();
     }
-}
\ No newline at end of file
+}
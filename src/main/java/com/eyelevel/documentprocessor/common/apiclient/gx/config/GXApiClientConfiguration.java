@@ -2,11 +2,23 @@ package com.eyelevel.documentprocessor.common.apiclient.gx.config;
 
 import com.eyelevel.documentprocessor.common.apiclient.authentication.Authentication;
 import com.eyelevel.documentprocessor.common.apiclient.authentication.impl.APIKeyAuthentication;
+import com.eyelevel.documentprocessor.common.apiclient.resilience.ApiResilience;
+import com.eyelevel.documentprocessor.common.apiclient.resilience.ResilienceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
 
 /**
  * Configures the necessary beans for the GroundX (GX) API client, including the
@@ -16,6 +28,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class GXApiClientConfiguration {
 
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
     @Value("${app.gx-client.baseurl}")
     private String baseUrl;
 
@@ -25,15 +40,106 @@ public class GXApiClientConfiguration {
     @Value("${app.gx-client.auth-key-value}")
     private String headerValue;
 
+    @Value("${app.gx-client.connection.max-connections}")
+    private int maxConnections;
+
+    @Value("${app.gx-client.connection.pending-acquire-max-count}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${app.gx-client.connection.pending-acquire-timeout-ms}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${app.gx-client.connection.max-idle-time-seconds}")
+    private long maxIdleTimeSeconds;
+
+    @Value("${app.gx-client.connection.max-life-time-seconds}")
+    private long maxLifeTimeSeconds;
+
+    @Value("${app.gx-client.connection.evict-in-background-seconds}")
+    private long evictInBackgroundSeconds;
+
+    @Value("${app.gx-client.connection.connect-timeout-ms}")
+    private int connectTimeoutMs;
+
+    @Value("${app.gx-client.connection.response-timeout-seconds}")
+    private long responseTimeoutSeconds;
+
+    @Value("${app.gx-client.connection.http2-enabled}")
+    private boolean http2Enabled;
+
+    @Value("${app.gx-client.connection.compression-enabled}")
+    private boolean compressionEnabled;
+
+    /**
+     * Creates the connection pool for GroundX calls. Connections are kept alive between calls so that concurrent
+     * uploads and status checks reuse them instead of paying a TCP and TLS handshake each time, and idle or aged
+     * connections are evicted in the background before the server or a load balancer drops them.
+     *
+     * @return A {@link ConnectionProvider} named "gx" that publishes its pool metrics.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider gxConnectionProvider() {
+        log.info("Initializing GroundX connection pool: maxConnections={}, pendingAcquireMaxCount={}, maxIdleTime={}s",
+                 maxConnections, pendingAcquireMaxCount, maxIdleTimeSeconds);
+        return ConnectionProvider.builder("gx")
+                                 .maxConnections(maxConnections)
+                                 .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                                 .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                                 .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                                 .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                                 .evictInBackground(Duration.ofSeconds(evictInBackgroundSeconds))
+                                 .metrics(true)
+                                 .build();
+    }
+
     /**
      * Creates and configures the {@link WebClient} instance for connecting to the GroundX API.
+     * <p>
+     * HTTP/2 is offered through ALPN when the base URL uses TLS, falling back to HTTP/1.1 if the server does not
+     * support it. Responses are requested gzip-compressed.
      *
      * @return A configured {@link WebClient} bean named "gxWebClient".
      */
     @Bean("gxWebClient")
-    public WebClient groundXWebClient() {
+    public WebClient groundXWebClient(final ConnectionProvider gxConnectionProvider) {
         log.info("Initializing GroundX WebClient with base URL: {}", baseUrl);
-        return WebClient.builder().baseUrl(baseUrl).build();
+        final boolean secure = baseUrl.regionMatches(true, 0, "https:", 0, 6);
+        final HttpProtocol[] protocols = http2Enabled && secure ? new HttpProtocol[]{HttpProtocol.H2,
+                HttpProtocol.HTTP11} : new HttpProtocol[]{HttpProtocol.HTTP11};
+
+        final HttpClient httpClient = HttpClient.create(gxConnectionProvider)
+                                                .protocol(protocols)
+                                                .compress(compressionEnabled)
+                                                .keepAlive(true)
+                                                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                                                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                                                // Process IDs in paths would otherwise create a meter per request.
+                                                .metrics(true, uri -> UUID_PATTERN.matcher(uri).replaceAll("{id}"));
+
+        return WebClient.builder().baseUrl(baseUrl).clientConnector(new ReactorClientHttpConnector(httpClient))
+                        .build();
+    }
+
+    /**
+     * Binds the rate limiting, circuit breaking and retry settings for GroundX calls.
+     *
+     * @return The settings under {@code app.gx-client.resilience}.
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "app.gx-client.resilience")
+    public ResilienceProperties gxResilienceProperties() {
+        return new ResilienceProperties();
+    }
+
+    /**
+     * Creates the rate limiter, circuit breaker and retry policy shared by all GroundX calls.
+     *
+     * @return An {@link ApiResilience} bean named "gxResilience", reporting its metrics under the client tag "gx".
+     */
+    @Bean("gxResilience")
+    public ApiResilience groundXResilience(final ResilienceProperties gxResilienceProperties,
+                                           final MeterRegistry meterRegistry) {
+        return new ApiResilience("gx", gxResilienceProperties, meterRegistry);
     }
 
     /**
@@ -0,0 +1,194 @@
+package com.eyelevel.documentprocessor.common.apiclient.resilience;
+
+import com.eyelevel.documentprocessor.exception.apiclient.ApiException;
+import com.eyelevel.documentprocessor.exception.apiclient.BadGatewayException;
+import com.eyelevel.documentprocessor.exception.apiclient.CircuitBreakerOpenException;
+import com.eyelevel.documentprocessor.exception.apiclient.GatewayTimeoutException;
+import com.eyelevel.documentprocessor.exception.apiclient.ServiceUnavailableException;
+import com.eyelevel.documentprocessor.exception.apiclient.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Guards the calls of one API client with a token-bucket rate limiter per endpoint, a circuit breaker shared by
+ * all endpoints, and retries with jittered exponential backoff for transient failures.
+ * <p>
+ * Each attempt first asks the breaker for permission, then waits for a rate-limit permit, and only then reaches the
+ * network. A {@code Retry-After} header on a 429 or 503 response replaces the computed backoff. Only transient
+ * failures count against the breaker; other 4xx responses say nothing about the health of the service.
+ * <p>
+ * Idempotent calls are retried after any transient failure. Other calls, such as the POSTs that start an ingest or
+ * create a bucket, are retried only when the service turned them away without acting on them: a 429 or 503
+ * response, a connection that could not be opened, or a local rate-limit rejection. A timeout, dropped connection,
+ * 502 or 504 may come after the service already handled the request, so resending it could repeat its effect.
+ * <p>
+ * Breaker state, available permits, and call, retry and rejection counts are published as Micrometer meters tagged
+ * with the client name.
+ */
+@Slf4j
+public class ApiResilience {
+
+    private final String clientName;
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<String, TokenBucket> bucketsByPath = new ConcurrentHashMap<>();
+    private final Duration maxRateLimitWait;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter retryCounter;
+    private final Counter circuitRejectionCounter;
+    private final Counter rateLimitRejectionCounter;
+
+    public ApiResilience(final String clientName, final ResilienceProperties properties,
+                         final MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new CircuitBreaker(clientName, properties.getCircuitBreaker());
+        this.maxRateLimitWait = Duration.ofMillis(properties.getRateLimit().getMaxWaitMs());
+
+        Gauge.builder("api.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+             .description("Circuit breaker state: 0 = closed, 1 = half-open, 2 = open").tag("client", clientName)
+             .register(meterRegistry);
+        this.successCounter = callCounter("success");
+        this.failureCounter = callCounter("failure");
+        this.retryCounter = Counter.builder("api.client.retries").tag("client", clientName).register(meterRegistry);
+        this.circuitRejectionCounter = Counter.builder("api.client.circuit.rejected").tag("client", clientName)
+                                              .register(meterRegistry);
+        this.rateLimitRejectionCounter = Counter.builder("api.client.ratelimiter.rejected")
+                                                .tag("client", clientName).register(meterRegistry);
+    }
+
+    /**
+     * Applies rate limiting, circuit breaking and retries to a call. The call is re-subscribed for every attempt,
+     * so it must build its request lazily.
+     *
+     * @param path       The request path template, which selects the rate limit.
+     * @param idempotent Whether sending the call twice has the same effect as sending it once.
+     */
+    public <T> Mono<T> decorate(final String path, final boolean idempotent, final Mono<T> call) {
+        final Mono<T> attempt = Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitRejectionCounter.increment();
+                return Mono.error(new CircuitBreakerOpenException(
+                        "Circuit breaker for '" + clientName + "' is open; the call to " + path + " was not sent."));
+            }
+            final Duration wait = bucketFor(path).tryReserve(maxRateLimitWait).orElse(null);
+            if (wait == null) {
+                circuitBreaker.releasePermission();
+                rateLimitRejectionCounter.increment();
+                return Mono.error(new TooManyRequestsException(
+                        "Local rate limit for " + path + " would delay the call by more than " + maxRateLimitWait));
+            }
+            final Mono<T> delayedCall = wait.isZero() ? call : Mono.delay(wait).then(call);
+            // A cancelled call reports no outcome, so hand its permission back or a half-open breaker runs out of
+            // trial calls for good.
+            return delayedCall.doOnCancel(circuitBreaker::releasePermission).doOnSuccess(result -> {
+                circuitBreaker.onSuccess();
+                successCounter.increment();
+            }).doOnError(error -> {
+                if (isTransientFailure(error)) {
+                    circuitBreaker.onFailure();
+                    failureCounter.increment();
+                } else {
+                    circuitBreaker.onSuccess();
+                    successCounter.increment();
+                }
+            });
+        });
+
+        return attempt.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+            final Throwable failure = signal.failure();
+            final Duration delay = retryDelay(failure, signal.totalRetries(), idempotent);
+            if (delay == null) {
+                return Mono.error(failure);
+            }
+            retryCounter.increment();
+            log.warn("Retrying call to {} in {} ms after attempt {} failed: {}", path, delay.toMillis(),
+                     signal.totalRetries() + 1, failure.getMessage());
+            return Mono.delay(delay);
+        })));
+    }
+
+    /**
+     * @return Whether the circuit breaker would currently let calls through. Schedulers use this to skip a run
+     *         instead of failing every item in it.
+     */
+    public boolean isCallPermitted() {
+        return circuitBreaker.isCallPermitted();
+    }
+
+    /**
+     * Whether a failure is expected to go away on its own: rate limiting, an unavailable or overloaded service,
+     * a gateway error, a timeout, a connection failure, or an open circuit breaker.
+     */
+    public static boolean isTransientFailure(final Throwable error) {
+        return error instanceof TooManyRequestsException || error instanceof ServiceUnavailableException
+               || error instanceof GatewayTimeoutException || error instanceof BadGatewayException;
+    }
+
+    /**
+     * Whether a failure shows that the service did not act on the request: a 429 or 503 response, a connection
+     * that could not be opened, a local rate-limit rejection or an open circuit breaker. Only such failures are
+     * safe to resend for calls that are not idempotent.
+     */
+    public static boolean isRejectedWithoutProcessing(final Throwable error) {
+        return (error instanceof TooManyRequestsException || error instanceof ServiceUnavailableException)
+               && !((ApiException) error).isOutcomeUnknown();
+    }
+
+    /**
+     * @return The delay before the next attempt, or {@code null} if the failure should not be retried.
+     */
+    private Duration retryDelay(final Throwable failure, final long retriesSoFar, final boolean idempotent) {
+        final ResilienceProperties.Retry retry = properties.getRetry();
+        final boolean retryable = idempotent ? isTransientFailure(failure) : isRejectedWithoutProcessing(failure);
+        if (retriesSoFar >= retry.getMaxRetries() || !retryable || failure instanceof CircuitBreakerOpenException) {
+            return null;
+        }
+        if (failure instanceof ApiException apiException && apiException.getRetryAfter() != null) {
+            final Duration retryAfter = apiException.getRetryAfter();
+            if (retryAfter.compareTo(Duration.ofSeconds(retry.getMaxRetryAfterSeconds())) > 0) {
+                log.warn("Not retrying: the service asked to wait {} s, longer than the configured maximum.",
+                         retryAfter.toSeconds());
+                return null;
+            }
+            // A little jitter keeps clients that were told the same Retry-After from returning in lockstep.
+            return retryAfter.plusMillis(ThreadLocalRandom.current().nextLong(retry.getBaseDelayMs() + 1));
+        }
+        // Full jitter: a uniformly random delay up to the exponential backoff ceiling.
+        final long ceiling = Math.min(retry.getMaxDelayMs(), retry.getBaseDelayMs() << Math.min(retriesSoFar, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private TokenBucket bucketFor(final String path) {
+        return bucketsByPath.computeIfAbsent(path, key -> {
+            final ResilienceProperties.RateLimit rateLimit = properties.getRateLimit();
+            final TokenBucket bucket = rateLimit.getEndpoints().stream().filter(limit -> key.equals(limit.getPath()))
+                                                .findFirst()
+                                                .map(limit -> new TokenBucket(limit.getPermitsPerSecond(),
+                                                                              limit.getBurst()))
+                                                .orElseGet(() -> new TokenBucket(rateLimit.getPermitsPerSecond(),
+                                                                                 rateLimit.getBurst()));
+            Gauge.builder("api.client.ratelimiter.available.permits", bucket, TokenBucket::availablePermits)
+                 .tag("client", clientName).tag("endpoint", key).register(meterRegistry);
+            return bucket;
+        });
+    }
+
+    private Counter callCounter(final String outcome) {
+        return Counter.builder("api.client.calls").tag("client", clientName).tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+}
@@ -0,0 +1,139 @@
+package com.eyelevel.documentprocessor.common.apiclient.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * A count-based circuit breaker. It opens when the failure rate over the last {@code slidingWindowSize} calls
+ * reaches the threshold, rejects calls while open, and after {@code openDuration} lets a few trial calls through.
+ * It closes again only if all of them succeed.
+ */
+@Slf4j
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int recordedCalls;
+    private int recordedFailures;
+    private long openedAtNanos;
+    private int halfOpenPermitsLeft;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(final String name, final ResilienceProperties.CircuitBreaker properties) {
+        this.name = name;
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.minimumCalls = Math.max(1, properties.getMinimumCalls());
+        this.openDurationNanos = Duration.ofSeconds(properties.getOpenDurationSeconds()).toNanos();
+        this.halfOpenCalls = Math.max(1, properties.getHalfOpenCalls());
+        this.window = new boolean[Math.max(this.minimumCalls, properties.getSlidingWindowSize())];
+    }
+
+    /**
+     * Asks to send a call. A permitted call must be followed by {@link #onSuccess()} or {@link #onFailure()}.
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+            halfOpenPermitsLeft = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitsLeft == 0) {
+                return false;
+            }
+            halfOpenPermitsLeft--;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a permission that was acquired but not used for a call.
+     */
+    synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermitsLeft < halfOpenCalls) {
+            halfOpenPermitsLeft++;
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                resetWindow();
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && recordedFailures * 100 >= failureRateThreshold * recordedCalls) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * @return Whether a call would currently be let through, without reserving a trial call.
+     */
+    synchronized boolean isCallPermitted() {
+        return state != State.OPEN || System.nanoTime() - openedAtNanos >= openDurationNanos;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        openedAtNanos = System.nanoTime();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void record(final boolean failure) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                recordedFailures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            recordedFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        recordedCalls = 0;
+        recordedFailures = 0;
+    }
+
+    private void transitionTo(final State newState) {
+        if (state != newState) {
+            log.warn("Circuit breaker '{}' changed state from {} to {}.", name, state, newState);
+            state = newState;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.eyelevel.documentprocessor.common.apiclient.resilience;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limiting, circuit breaking and retry settings for one {@link ApiResilience} instance.
+ */
+@Data
+public class ResilienceProperties {
+
+    private RateLimit rateLimit = new RateLimit();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Retry retry = new Retry();
+
+    @Data
+    public static class RateLimit {
+        /**
+         * Sustained request rate for endpoints without their own entry in {@link #endpoints}.
+         */
+        private double permitsPerSecond = 10;
+        /**
+         * Requests that may be sent back to back before the sustained rate applies.
+         */
+        private int burst = 20;
+        /**
+         * The longest a request waits for a permit before it fails locally with a 429.
+         */
+        private long maxWaitMs = 30000;
+        private List<EndpointLimit> endpoints = new ArrayList<>();
+    }
+
+    /**
+     * A limit for one endpoint, identified by its request path template (e.g. {@code /v1/ingest/{processId}}).
+     */
+    @Data
+    public static class EndpointLimit {
+        private String path;
+        private double permitsPerSecond;
+        private int burst;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        /**
+         * Failure percentage over the sliding window at which the breaker opens.
+         */
+        private int failureRateThreshold = 50;
+        private int slidingWindowSize = 50;
+        /**
+         * Calls that must be recorded before the failure rate is evaluated.
+         */
+        private int minimumCalls = 20;
+        private long openDurationSeconds = 30;
+        /**
+         * Trial calls let through while half-open; all of them must succeed to close the breaker.
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class Retry {
+        /**
+         * Retries after the first attempt for 429, 502, 503 and 504 responses, timeouts and connection failures.
+         */
+        private int maxRetries = 3;
+        private long baseDelayMs = 500;
+        private long maxDelayMs = 10000;
+        /**
+         * A {@code Retry-After} longer than this is not waited for; the call fails instead.
+         */
+        private long maxRetryAfterSeconds = 60;
+    }
+}
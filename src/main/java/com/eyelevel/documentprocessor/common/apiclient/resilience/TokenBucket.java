@@ -0,0 +1,53 @@
+package com.eyelevel.documentprocessor.common.apiclient.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A token bucket that hands out permits at a sustained rate with a bounded burst. Permits are reserved ahead of
+ * time, so a caller learns how long to wait instead of polling the bucket.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(final double permitsPerSecond, final int burst) {
+        this.capacity = Math.max(1, burst);
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Reserves one permit if it becomes available within {@code maxWait}.
+     *
+     * @return How long to wait before using the permit, or empty if the wait would exceed {@code maxWait}.
+     */
+    synchronized Optional<Duration> tryReserve(final Duration maxWait) {
+        refill();
+        final double deficit = 1 - tokens;
+        final long waitNanos = deficit <= 0 ? 0 : (long) Math.ceil(deficit / permitsPerNano);
+        if (waitNanos > maxWait.toNanos()) {
+            return Optional.empty();
+        }
+        tokens -= 1;
+        return Optional.of(Duration.ofNanos(waitNanos));
+    }
+
+    /**
+     * @return The permits currently available; negative while reservations are queued.
+     */
+    synchronized double availablePermits() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        final long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -1,9 +1,11 @@
 package com.eyelevel.documentprocessor.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
 import org.springframework.util.StringUtils;
@@ -17,11 +19,16 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.S3CrtAsyncClientBuilder;
 import software.amazon.awssdk.services.s3.crt.S3CrtRetryConfiguration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 
+import java.net.URI;
+
 /**
  * Configures and provides AWS SDK client beans for S3 and SQS.
  * This configuration dynamically selects the credential strategy based on the active Spring profile.
@@ -42,6 +49,21 @@ public class AwsConfig {
     @Value("${aws.s3.retry-count}") // default to 4 if not set
     private int s3RetryCount;
 
+    /**
+     * Optional endpoint of an S3-compatible store (e.g. MinIO or LocalStack) used instead of AWS.
+     */
+    @Value("${aws.s3.endpoint:}")
+    private String s3Endpoint;
+
+    @Value("${aws.s3.path-style-access:false}")
+    private boolean s3PathStyleAccess;
+
+    @Value("${aws.s3.copy.multipart-threshold-bytes}")
+    private long copyMultipartThresholdBytes;
+
+    @Value("${aws.s3.copy.minimum-part-size-bytes}")
+    private long copyMinimumPartSizeBytes;
+
     /**
      * Determines which credentials provider to use based on the active Spring profile.
      */
@@ -80,8 +102,13 @@ public class AwsConfig {
     public S3Client s3Client(AwsCredentialsProvider credentialsProvider,
                              ClientOverrideConfiguration clientOverrideConfig) {
         log.info("Configuring AWS S3Client for region: {}", awsRegion);
-        return S3Client.builder().credentialsProvider(credentialsProvider) // FIXED: Use dynamic credentials
-                       .region(Region.of(awsRegion)).overrideConfiguration(clientOverrideConfig).build();
+        S3ClientBuilder builder = S3Client.builder().credentialsProvider(credentialsProvider) // FIXED: Use dynamic credentials
+                                          .region(Region.of(awsRegion)).overrideConfiguration(clientOverrideConfig)
+                                          .forcePathStyle(s3PathStyleAccess);
+        if (StringUtils.hasText(s3Endpoint)) {
+            builder.endpointOverride(URI.create(s3Endpoint));
+        }
+        return builder.build();
     }
 
     /**
@@ -89,33 +116,73 @@ public class AwsConfig {
      * NOTE: The CRT client uses its own specific retry mechanism, not the standard one.
      */
     @Bean
+    @Primary
     public S3AsyncClient s3AsyncClient(AwsCredentialsProvider credentialsProvider) {
         log.info("Configuring AWS S3AsyncClient (CRT) for region: {}", awsRegion);
+        return crtClientBuilder(credentialsProvider).build();
+    }
+
+    /**
+     * Creates the CRT client used for server-side copies. Objects above the copy threshold are copied as parallel
+     * {@code UploadPartCopy} requests. The threshold is kept off the shared client so uploads keep their defaults.
+     */
+    @Bean
+    public S3AsyncClient s3CopyAsyncClient(AwsCredentialsProvider credentialsProvider) {
+        log.info("Configuring AWS S3AsyncClient (CRT) for copies in region: {}", awsRegion);
+        return crtClientBuilder(credentialsProvider).thresholdInBytes(copyMultipartThresholdBytes)
+                                                    .minimumPartSizeInBytes(copyMinimumPartSizeBytes)
+                                                    .build();
+    }
+
+    private S3CrtAsyncClientBuilder crtClientBuilder(AwsCredentialsProvider credentialsProvider) {
         // The CRT client is special and has its own retry configuration method.
         S3CrtRetryConfiguration crtRetryConfiguration = S3CrtRetryConfiguration.builder().numRetries(
                                                                                        s3RetryCount) // Set the number of retries for the CRT client.
                                                                                .build();
 
-        return S3AsyncClient.crtBuilder().credentialsProvider(credentialsProvider) // FIXED: Use dynamic credentials
-                            .region(Region.of(awsRegion)) // FIXED: Use dynamic region
-                            .retryConfiguration(crtRetryConfiguration).build();
+        S3CrtAsyncClientBuilder builder = S3AsyncClient.crtBuilder().credentialsProvider(credentialsProvider) // FIXED: Use dynamic credentials
+                                                       .region(Region.of(awsRegion)) // FIXED: Use dynamic region
+                                                       .retryConfiguration(crtRetryConfiguration)
+                                                       .forcePathStyle(s3PathStyleAccess);
+        if (StringUtils.hasText(s3Endpoint)) {
+            builder.endpointOverride(URI.create(s3Endpoint));
+        }
+        return builder;
     }
 
     /**
      * Creates the S3TransferManager, which inherits the configuration from the S3AsyncClient.
      */
     @Bean
+    @Primary
     public S3TransferManager s3TransferManager(S3AsyncClient s3AsyncClient) {
         return S3TransferManager.builder().s3Client(s3AsyncClient).build();
     }
 
+    /**
+     * Creates the S3TransferManager used for server-side copies, on top of the copy client.
+     */
+    @Bean
+    public S3TransferManager s3CopyTransferManager(@Qualifier("s3CopyAsyncClient") S3AsyncClient s3CopyAsyncClient) {
+        return S3TransferManager.builder().s3Client(s3CopyAsyncClient).build();
+    }
+
     /**
      * Creates the S3 presigner client.
      */
     @Bean
     public S3Presigner s3Presigner(AwsCredentialsProvider credentialsProvider) {
         log.info("Configuring AWS S3Presigner for region: {}", awsRegion);
-        return S3Presigner.builder().region(Region.of(awsRegion)).credentialsProvider(credentialsProvider).build();
+        S3Presigner.Builder builder = S3Presigner.builder().region(Region.of(awsRegion))
+                                                 .credentialsProvider(credentialsProvider)
+                                                 .serviceConfiguration(S3Configuration.builder()
+                                                                                      .pathStyleAccessEnabled(
+                                                                                              s3PathStyleAccess)
+                                                                                      .build());
+        if (StringUtils.hasText(s3Endpoint)) {
+            builder.endpointOverride(URI.create(s3Endpoint));
+        }
+        return builder.build();
     }
 
     /**
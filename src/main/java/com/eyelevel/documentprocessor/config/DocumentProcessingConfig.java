@@ -16,6 +16,10 @@ public class DocumentProcessingConfig {
 
     private long maxFileSize;
     private int maxPages;
+    /**
+     * When true, a file sent to GX unchanged is referenced in place instead of being copied to the files prefix.
+     */
+    private boolean referenceSourceOnPassthrough;
     private LibreOffice libreoffice = new LibreOffice();
     private Pdf pdf = new Pdf();
     private MsgHandler msgHandler = new MsgHandler();
@@ -43,6 +47,7 @@ public class DocumentProcessingConfig {
     public static class ZipHandler {
         private int concurrencyLimit;
         private String tempDir;
+        private int bucketCreationConcurrency = 4;
         private RetryConfig retry = new RetryConfig();
     }
 
@@ -52,11 +57,24 @@ public class DocumentProcessingConfig {
 
         private Set<String> convertibleExtensions = Set.of("doc", "docx", "ppt", "pptx", "xls", "xlsx", "wpd", "rtf",
                 "txt", "odt", "ods", "odp");
+        private RangeConversion rangeConversion = new RangeConversion();
+
+        /**
+         * Controls the page-range conversion mode, where very large workbooks and decks are exported
+         * as several slide/sheet ranges in parallel instead of one long-running soffice call.
+         */
+        @Data
+        public static class RangeConversion {
+            private boolean enabled;
+            private long minFileSize;
+            private Set<String> extensions = Set.of("pptx", "xlsx");
+        }
     }
 
     @Data
     public static class Pdf {
         private String optimizerStrategy;
+        private FastPath fastPath = new FastPath();
         private Ghostscript ghostscript = new Ghostscript();
         private QPDF qpdf = new QPDF();
 
@@ -79,6 +97,16 @@ public class DocumentProcessingConfig {
             private QPDFSplitter splitter = new QPDFSplitter();
         }
 
+        /**
+         * Thresholds under which a PDF is sent to GX as-is, skipping optimization and splitting.
+         */
+        @Data
+        public static class FastPath {
+            private boolean enabled;
+            private long maxFileSize;
+            private int maxPages;
+        }
+
         @Data
         public static class Ghostscript {
             private String preset;
@@ -1,5 +1,6 @@
 package com.eyelevel.documentprocessor.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
@@ -28,4 +29,23 @@ public class TaskExecutorConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates the bounded pool that delivers job events to progress streams, off the thread listening for them.
+     * Events that do not fit in the queue are dropped, since the next event of the job carries a fresh snapshot.
+     *
+     * @return A configured AsyncTaskExecutor bean.
+     */
+    @Bean("jobEventExecutor")
+    public AsyncTaskExecutor jobEventExecutor(@Value("${app.job-events.dispatch.pool-size}") final int poolSize,
+                                              @Value("${app.job-events.dispatch.queue-capacity}")
+                                              final int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("job-events-");
+        executor.initialize();
+        return executor;
+    }
+}
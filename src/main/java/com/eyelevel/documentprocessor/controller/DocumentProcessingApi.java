@@ -11,7 +11,9 @@ import com.eyelevel.documentprocessor.dto.uploadfile.direct.PresignedUploadRespo
 import com.eyelevel.documentprocessor.dto.uploadfile.multipart.CompleteMultipartUploadRequest;
 import com.eyelevel.documentprocessor.dto.uploadfile.multipart.InitiateMultipartUploadResponse;
 import com.eyelevel.documentprocessor.dto.uploadfile.multipart.PresignedUrlPartResponse;
+import com.eyelevel.documentprocessor.dto.view.response.DocumentSlice;
 import com.eyelevel.documentprocessor.model.ZipProcessingStatus;
+import com.eyelevel.documentprocessor.service.file.view.DocumentExportFormat;
 import com.eyelevel.documentprocessor.view.DocumentProcessingView;
 import com.smartsensesolutions.commons.dao.filter.FilterRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +29,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -268,8 +272,26 @@ public interface DocumentProcessingApi {
     })
     ResponseEntity<ApiResponse<TerminateAllResponse>> terminateAllActiveJobs();
 
+    @Operation(summary = "Stream Job Progress",
+            description = "Opens a server-sent event stream for a job. A 'progress' event with the job's status and outstanding work is sent first and after every change; each committed status change of the job or one of its ZIP, file or GX records is sent as a 'transition' event. The stream ends once the job is COMPLETED or TERMINATED.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Progress stream opened.",
+                    content = @Content(mediaType = "text/event-stream", examples = @ExampleObject(name = "Events", value = """
+                            event:progress
+                            data:{"jobId":123,"status":"PROCESSING","currentStage":"Processing files","pendingZips":0,"pendingFiles":4,"pendingGx":10}
+
+                            event:transition
+                            data:{"jobId":123,"entity":"FILE","id":4567,"status":"COMPLETED"}
+                            """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Not Found - The job ID does not exist.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
+    })
+    SseEmitter streamJobEvents(
+            @Parameter(description = "The ID of the job to follow.", required = true, example = "123")
+            @PathVariable Long jobId);
+
     @Operation(summary = "List and Filter Documents",
-            description = "Retrieves a paginated and filtered list of documents for a specific bucket, based on their processing status and other criteria.")
+            description = "Retrieves a paginated and filtered list of documents for a specific bucket, based on their processing status and other criteria. A document's 'id' is a stable identifier that stays the same while it is listed; it is not its position in the listing and does not reflect recency. Pass an explicit sort, e.g. 'createdAt' DESC, for a defined order; without one the order is unspecified.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Document list retrieved successfully.",
                     content = @Content(mediaType = "application/json",
@@ -423,6 +445,74 @@ public interface DocumentProcessingApi {
                             }))
             @RequestBody @Valid FilterRequest filterRequest);
 
+    @Operation(summary = "List Documents by Cursor",
+            description = "Retrieves a bucket's documents newest first using keyset pagination. Pass the 'nextCursor' of a page to get the next one. Pages stay consistent while documents are being added, and deep pages are as fast as the first.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Document list retrieved successfully.",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class),
+                            examples = @ExampleObject(name = "Success", value = """
+                                    {
+                                        "displayMessage": "Document list retrieved successfully.",
+                                        "response": {
+                                            "content": [
+                                                {
+                                                    "id": 101,
+                                                    "fileMasterId": 101,
+                                                    "gxMasterId": 201,
+                                                    "zipFileName": "annual_reports.zip",
+                                                    "fileName": "Q1_report.pdf",
+                                                    "extension": "pdf",
+                                                    "fileSize": 123456,
+                                                    "gxBucketId": 12345,
+                                                    "status": "Completed",
+                                                    "processingStage": "GroundX Processing",
+                                                    "error": null,
+                                                    "createdAt": "2025-10-27T10:00:00Z"
+                                                }
+                                            ],
+                                            "nextCursor": "MTIzNDV8MjAyNS0xMC0yN1QxMDowMHwxMDE",
+                                            "last": false
+                                        },
+                                        "showMessage": false,
+                                        "statusCode": 200
+                                    }
+                                    """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - Invalid page size or cursor.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
+    })
+    ResponseEntity<ApiResponse<DocumentSlice>> listDocumentsByCursor(
+            @Parameter(description = "The identifier of the bucket to list documents from.", required = true, example = "12345")
+            @PathVariable("gxBucketId") Integer gxBucketId,
+            @Parameter(description = "Optional display status to filter by.", example = "Completed")
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "The 'nextCursor' of the previous page. Omit it to get the first page.")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "The maximum number of documents to return (1-500).", example = "50")
+            @RequestParam(value = "size", defaultValue = "50") int size);
+
+    @Operation(summary = "Export Document Statuses",
+            description = "Streams the status of every document in a bucket, newest first, as NDJSON (one JSON object per line) or CSV. The export is read through a single database cursor and written as it is read, so it suits buckets of any size.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Export streamed successfully.",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson", examples = @ExampleObject(name = "NDJSON", value = """
+                                    {"id":101,"fileMasterId":101,"gxMasterId":201,"zipFileName":"annual_reports.zip","fileName":"Q1_report.pdf","extension":"pdf","fileSize":123456,"gxBucketId":12345,"processingStage":"GroundX Processing","status":"Completed","error":null,"createdAt":"2025-10-27T10:00:00"}
+                                    """)),
+                            @Content(mediaType = "text/csv", examples = @ExampleObject(name = "CSV", value = """
+                                    id,fileMasterId,gxMasterId,zipFileName,fileName,extension,fileSize,gxBucketId,processingStage,status,error,createdAt
+                                    101,101,201,annual_reports.zip,Q1_report.pdf,pdf,123456,12345,GroundX Processing,Completed,,2025-10-27T10:00
+                                    """))
+                    }),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - Invalid bucket ID or format.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
+    })
+    ResponseEntity<StreamingResponseBody> exportDocuments(
+            @Parameter(description = "The identifier of the bucket to export.", required = true, example = "12345")
+            @PathVariable("gxBucketId") Integer gxBucketId,
+            @Parameter(description = "The export format: NDJSON or CSV.", example = "NDJSON")
+            @RequestParam(value = "format", defaultValue = "NDJSON") DocumentExportFormat format);
+
     @Operation(summary = "Get Document Status Metrics",
             description = "Retrieves a summary of document counts grouped by their processing status for a given list of bucket IDs.")
     @ApiResponses(value = {
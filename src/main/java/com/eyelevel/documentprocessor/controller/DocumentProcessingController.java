@@ -11,10 +11,14 @@ import com.eyelevel.documentprocessor.dto.uploadfile.direct.PresignedUploadRespo
 import com.eyelevel.documentprocessor.dto.uploadfile.multipart.CompleteMultipartUploadRequest;
 import com.eyelevel.documentprocessor.dto.uploadfile.multipart.InitiateMultipartUploadResponse;
 import com.eyelevel.documentprocessor.dto.uploadfile.multipart.PresignedUrlPartResponse;
+import com.eyelevel.documentprocessor.dto.view.response.DocumentSlice;
 import com.eyelevel.documentprocessor.model.ZipProcessingStatus;
 import com.eyelevel.documentprocessor.service.file.DownloadService;
 import com.eyelevel.documentprocessor.service.file.RetryService;
+import com.eyelevel.documentprocessor.service.file.view.DocumentExportFormat;
+import com.eyelevel.documentprocessor.service.file.view.DocumentExportService;
 import com.eyelevel.documentprocessor.service.file.view.DocumentProcessingViewService;
+import com.eyelevel.documentprocessor.service.job.JobEventStreamService;
 import com.eyelevel.documentprocessor.service.job.JobLifecycleManager;
 import com.eyelevel.documentprocessor.service.job.JobOrchestrationService;
 import com.eyelevel.documentprocessor.service.zip.ZipProcessingListService;
@@ -29,10 +33,14 @@ import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -51,7 +59,9 @@ public class DocumentProcessingController implements DocumentProcessingApi {
 
     private final JobOrchestrationService jobOrchestrationService;
     private final DocumentProcessingViewService documentProcessingViewService;
+    private final DocumentExportService documentExportService;
     private final JobLifecycleManager jobLifecycleManager;
+    private final JobEventStreamService jobEventStreamService;
     private final RetryService retryService;
     private final DownloadService downloadService;
     private final ZipProcessingListService zipProcessingListService;
@@ -208,6 +218,13 @@ public class DocumentProcessingController implements DocumentProcessingApi {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @GetMapping(value = "/v1/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobEvents(@PathVariable @Positive(message = "The 'jobId' must be a positive number.") final Long jobId) {
+        log.debug("Opening a progress stream for Job ID: {}", jobId);
+        return jobEventStreamService.subscribe(jobId);
+    }
+
     // --- 3. VIEW AND METRICS ENDPOINTS ---
 
     @Override
@@ -231,6 +248,44 @@ public class DocumentProcessingController implements DocumentProcessingApi {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @GetMapping("/v1/views/list/{gxBucketId}/cursor")
+    public ResponseEntity<ApiResponse<DocumentSlice>> listDocumentsByCursor(
+            @PathVariable("gxBucketId") @Positive(message = "The 'gxBucketId' must be a positive number.") final Integer gxBucketId,
+            @RequestParam(value = "status", required = false) final String status,
+            @RequestParam(value = "cursor", required = false) final String cursor,
+            @RequestParam(value = "size", defaultValue = "50") @Min(value = 1, message = "The 'size' must be at least 1.") @Max(value = 500, message = "The 'size' cannot exceed 500.") final int size) {
+
+        log.debug("Listing documents for gxBucketId: {} after cursor: {}", gxBucketId, cursor);
+        DocumentSlice documents = documentProcessingViewService.listDocumentsAfter(gxBucketId, status, cursor, size);
+
+        ApiResponse<DocumentSlice> response = ApiResponse.<DocumentSlice>builder()
+                .response(documents)
+                .displayMessage("Document list retrieved successfully.")
+                .showMessage(false)
+                .statusCode(HttpStatus.OK.value())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    @GetMapping("/v1/views/export/{gxBucketId}")
+    public ResponseEntity<StreamingResponseBody> exportDocuments(
+            @PathVariable("gxBucketId") @Positive(message = "The 'gxBucketId' must be a positive number.") final Integer gxBucketId,
+            @RequestParam(value = "format", defaultValue = "NDJSON") final DocumentExportFormat format) {
+
+        log.info("Exporting documents for gxBucketId: {} as {}", gxBucketId, format);
+        // The body is written on an async request thread, where the export opens its own read-only transaction.
+        StreamingResponseBody body = outputStream -> documentExportService.export(gxBucketId, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"bucket-" + gxBucketId + "-documents." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @Override
     @PostMapping("/v1/views/metrics")
     public ResponseEntity<ApiResponse<Map<Integer, List<StatusMetricItem>>>> getDocumentMetrics(
@@ -0,0 +1,35 @@
+package com.eyelevel.documentprocessor.controller;
+
+import com.eyelevel.documentprocessor.dto.common.ApiResponse;
+import com.eyelevel.documentprocessor.dto.gx.uploadstatus.response.IngestResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "GroundX Callbacks", description = "Endpoints called by GroundX to report ingestion progress. Only available when app.gx.callback.enabled is true.")
+public interface GxCallbackApi {
+
+    @Operation(summary = "Receive Ingest Notification",
+            description = "Applies an ingest status pushed by GroundX to the documents of its process. The caller must present the shared callback token, either in the 'X-Callback-Token' header or in the 'token' query parameter.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Notification applied.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - The notification has no process ID.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - The callback token is missing or invalid.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
+    })
+    ResponseEntity<ApiResponse<Integer>> receiveIngestNotification(
+            @Parameter(description = "The shared callback token.")
+            @RequestHeader(value = "X-Callback-Token", required = false) String headerToken,
+            @Parameter(description = "The shared callback token, for callers that cannot set headers.")
+            @RequestParam(value = "token", required = false) String queryToken,
+            @RequestBody IngestResponse notification);
+}
@@ -0,0 +1,45 @@
+package com.eyelevel.documentprocessor.controller;
+
+import com.eyelevel.documentprocessor.dto.common.ApiResponse;
+import com.eyelevel.documentprocessor.dto.gx.uploadstatus.response.IngestResponse;
+import com.eyelevel.documentprocessor.service.gx.GxCallbackService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller receiving ingest notifications from GroundX.
+ * Registered only when {@code app.gx.callback.enabled} is true.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/gx")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.gx.callback.enabled", havingValue = "true")
+public class GxCallbackController implements GxCallbackApi {
+
+    private final GxCallbackService gxCallbackService;
+
+    @Override
+    @PostMapping("/v1/callbacks/ingest")
+    public ResponseEntity<ApiResponse<Integer>> receiveIngestNotification(
+            @RequestHeader(value = "X-Callback-Token", required = false) final String headerToken,
+            @RequestParam(value = "token", required = false) final String queryToken,
+            @RequestBody final IngestResponse notification) {
+
+        final String token = headerToken != null ? headerToken : queryToken;
+        final int checkedCount = gxCallbackService.handleIngestNotification(token, notification);
+
+        ApiResponse<Integer> response = ApiResponse.<Integer>builder()
+                .response(checkedCount)
+                .displayMessage("GX ingest notification applied.")
+                .showMessage(false)
+                .statusCode(HttpStatus.OK.value())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,13 +1,17 @@
 package com.eyelevel.documentprocessor.dto.gx.docupload.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
  * Represents the request body for uploading one or more documents to GX.
  *
- * @param documents A list of documents to be uploaded.
+ * @param documents   A list of documents to be uploaded.
+ * @param callbackUrl The URL GX notifies when ingestion finishes, or {@code null} to rely on polling only.
  */
-public record GXUploadFileRequest(List<DocumentRequest> documents) {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GXUploadFileRequest(List<DocumentRequest> documents, String callbackUrl) {
 
     /**
      * Represents a single document to be uploaded.
@@ -0,0 +1,16 @@
+package com.eyelevel.documentprocessor.dto.gx.listgxbuckets.response;
+
+import com.eyelevel.documentprocessor.dto.gx.creategxbucket.response.GXBucket;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Represents one page of the response to a GX bucket listing request.
+ *
+ * @param buckets   The buckets on this page.
+ * @param nextToken The token requesting the next page, or {@code null} on the last page.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GXBucketList(List<GXBucket.Bucket> buckets, String nextToken) {
+}
@@ -0,0 +1,17 @@
+package com.eyelevel.documentprocessor.dto.job.response;
+
+import com.eyelevel.documentprocessor.model.ProcessingStatus;
+
+/**
+ * The current state of a processing job and its outstanding work, as pushed to live progress streams.
+ *
+ * @param jobId        The ID of the job.
+ * @param status       The status of the job.
+ * @param currentStage A description of the job's current stage.
+ * @param pendingZips  The number of ZIP archives still being extracted.
+ * @param pendingFiles The number of files still being processed.
+ * @param pendingGx    The number of documents not yet settled in GX.
+ */
+public record JobProgressSnapshot(Long jobId, ProcessingStatus status, String currentStage, int pendingZips,
+                                  int pendingFiles, int pendingGx) {
+}
@@ -0,0 +1,12 @@
+package com.eyelevel.documentprocessor.dto.view.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * One document of a bucket export. It carries the same fields as the document listing, but as a plain record, so
+ * exported rows are not tracked by the persistence context while a large export streams.
+ */
+public record DocumentExportRow(Long id, Long fileMasterId, Long gxMasterId, String zipFileName, String fileName,
+                                String extension, Long fileSize, Integer gxBucketId, String processingStage,
+                                String status, String error, LocalDateTime createdAt) {
+}
@@ -0,0 +1,36 @@
+package com.eyelevel.documentprocessor.dto.view.response;
+
+import com.eyelevel.documentprocessor.view.DocumentProcessingView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A DTO representing one page of a cursor-based document listing.
+ * Clients request the next page by passing {@code nextCursor} back unchanged.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentSlice {
+
+    /**
+     * The documents of this page, newest first.
+     */
+    private List<DocumentProcessingView> content;
+
+    /**
+     * An opaque token identifying the position after the last document of this page,
+     * or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Whether this is the last page of the listing.
+     */
+    private boolean last;
+}
@@ -3,6 +3,7 @@ package com.eyelevel.documentprocessor.exception.apiclient;
 import lombok.Getter;
 
 import java.io.Serial;
+import java.time.Duration;
 
 /**
  * Base class for API exceptions in the FraudX application.
@@ -17,6 +18,15 @@ public class ApiException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 4830840555831897529L;
     private final int statusCode;
+    /**
+     * How long the service asked the client to wait before retrying, if it sent a {@code Retry-After} header.
+     */
+    private Duration retryAfter;
+    /**
+     * Whether the request may have reached the service although no response was received, e.g. after a timeout or
+     * a dropped connection.
+     */
+    private boolean outcomeUnknown;
 
     /**
      * Constructs a new ApiException with the specified message and status code.
@@ -28,4 +38,24 @@ public class ApiException extends RuntimeException {
         super(message);
         this.statusCode = statusCode;
     }
+
+    /**
+     * Records the {@code Retry-After} delay sent with the error response.
+     *
+     * @return This exception.
+     */
+    public ApiException withRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+        return this;
+    }
+
+    /**
+     * Marks the failure as one after which the service may still have processed the request.
+     *
+     * @return This exception.
+     */
+    public ApiException markOutcomeUnknown() {
+        this.outcomeUnknown = true;
+        return this;
+    }
 }
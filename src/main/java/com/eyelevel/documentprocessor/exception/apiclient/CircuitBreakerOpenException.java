@@ -0,0 +1,24 @@
+package com.eyelevel.documentprocessor.exception.apiclient;
+
+import java.io.Serial;
+
+/**
+ * Exception indicating that a call was not sent because the circuit breaker for the target service is open
+ * (reported as HTTP 503).
+ *
+ * <p>This exception is thrown locally, without contacting the service, while it is considered unhealthy.
+ */
+public class CircuitBreakerOpenException extends ServiceUnavailableException {
+
+    @Serial
+    private static final long serialVersionUID = 2716473580918632871L;
+
+    /**
+     * Constructs a new CircuitBreakerOpenException with the specified message.
+     *
+     * @param message A descriptive message about the exception.
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.eyelevel.documentprocessor.model;
 
+import com.eyelevel.documentprocessor.service.job.JobProgressListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "file_master")
+@EntityListeners(JobProgressListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -59,7 +61,7 @@ public class FileMaster {
     private SourceType sourceType;
 
     @CreationTimestamp
-    @Column(updatable = false)
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
@@ -0,0 +1,41 @@
+package com.eyelevel.documentprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The GX bucket registered under a bucket name, shared by every bulk upload that targets that name.
+ * <p>
+ * A row without a {@code gxBucketId} is a claim: the node holding {@code claimToken} is creating the bucket in GX
+ * and every other node waits for it to finish, or takes the claim over once it has gone stale.
+ */
+@Entity
+@Table(name = "gx_bucket_registry")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GxBucketRegistration {
+
+    @Id
+    private String bucketName;
+
+    /**
+     * The ID of the GX bucket, or {@code null} while the bucket is being created.
+     */
+    private Integer gxBucketId;
+
+    private String claimToken;
+
+    private LocalDateTime claimedAt;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
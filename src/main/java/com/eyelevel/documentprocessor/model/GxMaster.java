@@ -1,5 +1,6 @@
 package com.eyelevel.documentprocessor.model;
 
+import com.eyelevel.documentprocessor.service.job.JobProgressListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,12 +13,18 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "gx_master")
+@EntityListeners(JobProgressListener.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class GxMaster {
 
+    /**
+     * The length of the {@code error_message} column.
+     */
+    public static final int ERROR_MESSAGE_MAX_LENGTH = 255;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -65,9 +72,51 @@ public class GxMaster {
     /**
      * Stores any error message returned from the GX API if ingestion failed.
      */
+    @Column(length = ERROR_MESSAGE_MAX_LENGTH)
     private String errorMessage;
 
+    /**
+     * When the upload scheduler claimed this record for submission to GX; cleared once the claim is released.
+     */
+    private LocalDateTime uploadClaimedAt;
+
+    /**
+     * When the status of this record is next due to be polled from GX. {@code null} means as soon as possible.
+     */
+    private LocalDateTime nextPollAt;
+
+    /**
+     * The number of status polls since the record was submitted to GX, used to back off the polling interval.
+     */
+    private int pollAttempts;
+
+    /**
+     * When GX accepted the document for ingestion.
+     */
+    private LocalDateTime gxSubmittedAt;
+
+    /**
+     * When the document reached a final GX status.
+     */
+    private LocalDateTime gxCompletedAt;
+
     @CreationTimestamp
-    @Column(updatable = false)
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+
+    /**
+     * Sets the error message, cut to {@link #ERROR_MESSAGE_MAX_LENGTH} characters. Upstream messages have no length
+     * limit, and one that overflows the column would fail the whole batch it is saved with.
+     */
+    public void setErrorMessage(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= ERROR_MESSAGE_MAX_LENGTH) {
+            this.errorMessage = errorMessage;
+            return;
+        }
+        int end = ERROR_MESSAGE_MAX_LENGTH - 3;
+        if (Character.isHighSurrogate(errorMessage.charAt(end - 1))) {
+            end--;
+        }
+        this.errorMessage = errorMessage.substring(0, end) + "...";
+    }
+}
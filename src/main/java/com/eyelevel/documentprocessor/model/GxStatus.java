@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 @AllArgsConstructor
 public enum GxStatus {
     QUEUED_FOR_UPLOAD("queued_for_upload"),
+    UPLOADING("uploading"),
     QUEUED("queued"),
     PROCESSING("processing"),
     COMPLETE("complete"),
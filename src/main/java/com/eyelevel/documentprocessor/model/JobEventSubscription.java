@@ -0,0 +1,28 @@
+package com.eyelevel.documentprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a job as watched by at least one live progress stream until {@code expiresAt}. The {@code job_events}
+ * triggers only publish transitions of subscribed jobs.
+ */
+@Entity
+@Table(name = "job_event_subscription")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobEventSubscription {
+
+    @Id
+    private Long jobId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
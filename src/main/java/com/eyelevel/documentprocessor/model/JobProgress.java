@@ -0,0 +1,48 @@
+package com.eyelevel.documentprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The outstanding work of a processing job: the number of its ZIP, file and GX records that are not yet in a
+ * terminal state. The counters are maintained by database triggers on {@code zip_master}, {@code file_master} and
+ * {@code gx_master}, so the application only ever reads them.
+ * <p>
+ * The triggers also stamp {@code lastChildChangeAt} on every child status change. Together with
+ * {@code lastEvaluatedAt}, which the lifecycle scheduler sets, it tells which jobs changed since their last
+ * evaluation.
+ */
+@Entity
+@Table(name = "job_progress")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobProgress {
+
+    @Id
+    private Long jobId;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int pendingZips;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int pendingFiles;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int pendingGx;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private LocalDateTime lastChildChangeAt;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastEvaluatedAt;
+}
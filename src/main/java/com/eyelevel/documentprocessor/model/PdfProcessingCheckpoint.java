@@ -0,0 +1,58 @@
+package com.eyelevel.documentprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records how far the PDF handler got with a large PDF, so a retry or a redelivered message can resume
+ * from the optimized file and the chunks already stored in S3 instead of starting from scratch.
+ */
+@Entity
+@Table(name = "pdf_processing_checkpoint")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PdfProcessingCheckpoint {
+
+    /**
+     * The ID of the FileMaster being processed. There is at most one checkpoint per file.
+     */
+    @Id
+    private Long fileMasterId;
+
+    /**
+     * The S3 key of the optimized PDF that the chunks are split from.
+     */
+    @Column(nullable = false)
+    private String optimizedFileLocation;
+
+    @Column(nullable = false)
+    private Integer totalPages;
+
+    /**
+     * The chunk size the split was planned with. A checkpoint is only reused if this still matches max-pages.
+     */
+    @Column(nullable = false)
+    private Integer pagesPerChunk;
+
+    /**
+     * The number of leading chunks that have been split and stored in S3.
+     */
+    @Column(nullable = false)
+    private int completedChunks;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.eyelevel.documentprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * The GX bucket created for one top-level folder of a bulk-upload ZIP. Persisting the mapping lets a redelivered
+ * ingestion message reuse the buckets of an earlier attempt instead of creating new ones.
+ */
+@Entity
+@Table(name = "zip_bucket_mapping")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ZipBucketMapping {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long zipMasterId;
+
+    /**
+     * The top-level folder name within the archive, which is also the name of the GX bucket.
+     */
+    @Column(nullable = false)
+    private String folderName;
+
+    @Column(nullable = false)
+    private Integer gxBucketId;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
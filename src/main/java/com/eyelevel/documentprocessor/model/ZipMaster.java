@@ -1,5 +1,6 @@
 package com.eyelevel.documentprocessor.model;
 
+import com.eyelevel.documentprocessor.service.job.JobProgressListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "zip_master")
+@EntityListeners(JobProgressListener.class)
 @Data
 @Builder
 @NoArgsConstructor
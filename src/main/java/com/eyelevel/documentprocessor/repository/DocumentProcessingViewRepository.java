@@ -1,13 +1,21 @@
 package com.eyelevel.documentprocessor.repository;
 
 import com.eyelevel.documentprocessor.dto.metric.StatusMetric;
+import com.eyelevel.documentprocessor.dto.view.response.DocumentExportRow;
 import com.eyelevel.documentprocessor.view.DocumentProcessingView;
 import com.smartsensesolutions.commons.dao.base.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Spring Data repository for the {@link DocumentProcessingView} entity.
@@ -25,4 +33,67 @@ public interface DocumentProcessingViewRepository extends BaseRepository<Documen
      */
     @Query(name = "DocumentProcessingView.findStatusMetricsByBucketIds.native", nativeQuery = true)
     List<StatusMetric> findStatusMetricsByBucketIds(@Param("gxBucketIds") List<Integer> gxBucketIds);
+
+    /**
+     * Folds up to {@code limit} pending bucket status count deltas into {@code bucket_status_counts}, in its own
+     * transaction.
+     *
+     * @return The number of counter rows updated, or 0 if no deltas were pending.
+     */
+    @Modifying
+    @Transactional
+    @Query(name = "DocumentProcessingView.rollUpStatusCountDeltas.native", nativeQuery = true)
+    int rollUpStatusCountDeltas(@Param("limit") int limit);
+
+    /**
+     * Finds the newest {@code limit} documents of a bucket in {@code (createdAt, id)} descending order.
+     */
+    @Query(name = "DocumentProcessingView.findBucketFirstPage.native", nativeQuery = true)
+    List<DocumentProcessingView> findBucketFirstPage(@Param("gxBucketId") Integer gxBucketId,
+                                                     @Param("limit") int limit);
+
+    /**
+     * Finds the newest {@code limit} documents of a bucket with the given display status in
+     * {@code (createdAt, id)} descending order.
+     */
+    @Query(name = "DocumentProcessingView.findBucketFirstPageByStatus.native", nativeQuery = true)
+    List<DocumentProcessingView> findBucketFirstPageByStatus(@Param("gxBucketId") Integer gxBucketId,
+                                                             @Param("status") String status,
+                                                             @Param("limit") int limit);
+
+    /**
+     * Finds up to {@code limit} documents of a bucket that come after the given position in
+     * {@code (createdAt, id)} descending order.
+     *
+     * @param afterCreatedAt The creation time of the last document already returned.
+     * @param afterId        The ID of the last document already returned.
+     */
+    @Query(name = "DocumentProcessingView.findBucketPageAfter.native", nativeQuery = true)
+    List<DocumentProcessingView> findBucketPageAfter(@Param("gxBucketId") Integer gxBucketId,
+                                                     @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                     @Param("afterId") Long afterId,
+                                                     @Param("limit") int limit);
+
+    /**
+     * Finds up to {@code limit} documents of a bucket with the given display status that come after the given
+     * position in {@code (createdAt, id)} descending order.
+     *
+     * @param afterCreatedAt The creation time of the last document already returned.
+     * @param afterId        The ID of the last document already returned.
+     */
+    @Query(name = "DocumentProcessingView.findBucketPageAfterByStatus.native", nativeQuery = true)
+    List<DocumentProcessingView> findBucketPageAfterByStatus(@Param("gxBucketId") Integer gxBucketId,
+                                                             @Param("status") String status,
+                                                             @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                             @Param("afterId") Long afterId,
+                                                             @Param("limit") int limit);
+
+    /**
+     * Streams every document of a bucket, newest first. The rows are fetched in batches through a database cursor,
+     * so the caller must consume and close the stream within a transaction.
+     */
+    @Query(name = "DocumentProcessingView.streamByGxBucketId")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<DocumentExportRow> streamByGxBucketId(@Param("gxBucketId") Integer gxBucketId);
 }
\ No newline at end of file
@@ -38,6 +38,13 @@ public interface FileMasterRepository extends JpaRepository<FileMaster, Long> {
                                                                                                   String fileHash,
                                                                                                   List<FileProcessingStatus> statuses);
 
+    /**
+     * @return The ID of the earliest non-failed, non-ignored file with the hash among the files of archived jobs.
+     */
+    @Transactional(readOnly = true)
+    @Query(name = "FileMaster.findArchivedWinnerId.native", nativeQuery = true)
+    Optional<Long> findArchivedWinnerId(@Param("gxBucketId") Integer gxBucketId, @Param("fileHash") String fileHash);
+
     @Transactional(readOnly = true)
     Optional<FileMaster> findFirstByGxBucketIdAndFileHashAndIdNotAndFileProcessingStatusNotInOrderByIdAsc(
             Integer gxBucketId, String fileHash, Long idToExclude, List<FileProcessingStatus> statuses);
@@ -47,4 +54,12 @@ public interface FileMasterRepository extends JpaRepository<FileMaster, Long> {
 
     @Query(name = "FileMaster.findFileLocationById")
     Optional<String> findFileLocationById(@Param("id") Long id);
+
+    long countByFileLocation(String fileLocation);
+
+    /**
+     * @return The number of archived rows whose {@code file_location} is the given key.
+     */
+    @Query(name = "FileMaster.countArchivedByFileLocation.native", nativeQuery = true)
+    long countArchivedByFileLocation(@Param("fileLocation") String fileLocation);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.eyelevel.documentprocessor.repository;
+
+import com.eyelevel.documentprocessor.model.GxBucketRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Spring Data JPA repository for the {@link GxBucketRegistration} entity. Each statement of the claim protocol
+ * commits on its own so that other nodes see claims and completions immediately.
+ */
+@Repository
+public interface GxBucketRegistrationRepository extends JpaRepository<GxBucketRegistration, String> {
+
+    /**
+     * Claims a bucket name that has no registration yet.
+     *
+     * @return {@code 1} if the claim was inserted, {@code 0} if the name is already registered or claimed.
+     */
+    @Modifying
+    @Transactional
+    @Query(name = "GxBucketRegistration.insertClaim.native", nativeQuery = true)
+    int insertClaim(@Param("bucketName") String bucketName, @Param("claimToken") String claimToken,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query(name = "GxBucketRegistration.takeOverStaleClaim")
+    int takeOverStaleClaim(@Param("bucketName") String bucketName, @Param("claimToken") String claimToken,
+                           @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Transactional
+    @Query(name = "GxBucketRegistration.completeClaim")
+    int completeClaim(@Param("bucketName") String bucketName, @Param("claimToken") String claimToken,
+                      @Param("gxBucketId") Integer gxBucketId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query(name = "GxBucketRegistration.releaseClaim")
+    int releaseClaim(@Param("bucketName") String bucketName, @Param("claimToken") String claimToken);
+}
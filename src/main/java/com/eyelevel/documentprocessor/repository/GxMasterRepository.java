@@ -2,16 +2,21 @@ package com.eyelevel.documentprocessor.repository;
 
 import com.eyelevel.documentprocessor.model.GxMaster;
 import com.eyelevel.documentprocessor.model.GxStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Spring Data JPA repository for the {@link GxMaster} entity.
@@ -43,4 +48,54 @@ public interface GxMasterRepository extends JpaRepository<GxMaster, Long> {
     @Query(name = "GxMaster.findFileLocationById")
     Optional<String> findFileLocationById(@Param("id") Long id);
 
+    /**
+     * Loads the records and locks them until the transaction ends, so a concurrent status change, such as a job
+     * termination, either commits first and is seen or waits for this transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<GxMaster> findByIdIn(Collection<Long> ids);
+
+    long countByFileLocation(String fileLocation);
+
+    /**
+     * @return The number of archived rows whose {@code file_location} is the given key.
+     */
+    @Query(name = "GxMaster.countArchivedByFileLocation.native", nativeQuery = true)
+    long countArchivedByFileLocation(@Param("fileLocation") String fileLocation);
+
+    /**
+     * Pages through the distinct process IDs of documents still being ingested by GX that are due for a status
+     * poll at {@code now}, in process ID order.
+     */
+    @Query(name = "GxMaster.findActiveProcessIdsAfter.native", nativeQuery = true)
+    List<UUID> findActiveProcessIdsAfter(@Param("afterProcessId") UUID afterProcessId,
+                                         @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * The average GX ingestion time per byte over documents completed since the given time, or {@code null}
+     * if there are none.
+     */
+    @Query(name = "GxMaster.findSecondsPerByteCompletedSince.native", nativeQuery = true)
+    Double findSecondsPerByteCompletedSince(@Param("since") LocalDateTime since);
+
+    List<GxMaster> findAllByGxProcessIdInAndGxStatusIn(Collection<UUID> processIds, Collection<GxStatus> statuses);
+
+    /**
+     * Locks the oldest documents queued for upload, skipping rows already locked by another instance.
+     */
+    @Query(name = "GxMaster.findIdsToClaimForUpload.native", nativeQuery = true)
+    List<Long> findIdsToClaimForUpload(@Param("limit") int limit);
+
+    @Modifying
+    @Query(name = "GxMaster.markClaimedForUpload")
+    int markClaimedForUpload(@Param("ids") List<Long> ids, @Param("claimedStatus") GxStatus claimedStatus,
+                             @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Modifying
+    @Query(name = "GxMaster.failStaleUploadClaims")
+    int failStaleUploadClaims(@Param("claimedStatus") GxStatus claimedStatus,
+                              @Param("errorStatus") GxStatus errorStatus,
+                              @Param("errorMessage") String errorMessage,
+                              @Param("claimedBefore") LocalDateTime claimedBefore);
+
 }
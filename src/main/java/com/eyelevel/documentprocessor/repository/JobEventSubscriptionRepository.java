@@ -0,0 +1,33 @@
+package com.eyelevel.documentprocessor.repository;
+
+import com.eyelevel.documentprocessor.model.JobEventSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Spring Data JPA repository for the {@link JobEventSubscription} entity.
+ */
+@Repository
+public interface JobEventSubscriptionRepository extends JpaRepository<JobEventSubscription, Long> {
+
+    /**
+     * Subscribes the given jobs for at least {@code ttlSeconds} from now.
+     *
+     * @return The number of subscriptions created or renewed.
+     */
+    @Modifying
+    @Transactional
+    @Query(name = "JobEventSubscription.renew.native", nativeQuery = true)
+    int renew(@Param("jobIds") Collection<Long> jobIds, @Param("ttlSeconds") long ttlSeconds);
+
+    @Modifying
+    @Transactional
+    @Query(name = "JobEventSubscription.deleteExpired.native", nativeQuery = true)
+    int deleteExpired();
+}
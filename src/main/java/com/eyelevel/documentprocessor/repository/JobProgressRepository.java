@@ -0,0 +1,44 @@
+package com.eyelevel.documentprocessor.repository;
+
+import com.eyelevel.documentprocessor.model.JobProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the {@link JobProgress} entity.
+ */
+@Repository
+public interface JobProgressRepository extends JpaRepository<JobProgress, Long> {
+
+    /**
+     * @return The IDs among the given jobs that have no outstanding work left.
+     */
+    @Query(name = "JobProgress.findSettledJobIds.native", nativeQuery = true)
+    List<Long> findSettledJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+    /**
+     * @return The IDs of the jobs owning the given GX records that have no outstanding work left.
+     */
+    @Query(name = "JobProgress.findSettledJobIdsForGxMasters.native", nativeQuery = true)
+    List<Long> findSettledJobIdsForGxMasters(@Param("gxMasterIds") Collection<Long> gxMasterIds);
+
+    @Modifying
+    @Query(name = "JobProgress.reconcileCounters.native", nativeQuery = true)
+    int reconcileCounters(@Param("quietMinutes") long quietMinutes);
+
+    /**
+     * Marks the changed jobs whose children have not changed for {@code quietMinutes}, by the database clock, as
+     * evaluated.
+     *
+     * @return The number of jobs marked.
+     */
+    @Modifying
+    @Query(name = "JobProgress.markEvaluated.native", nativeQuery = true)
+    int markEvaluated(@Param("quietMinutes") long quietMinutes);
+}
@@ -0,0 +1,20 @@
+package com.eyelevel.documentprocessor.repository;
+
+import com.eyelevel.documentprocessor.model.PdfProcessingCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link PdfProcessingCheckpoint} entity.
+ */
+@Repository
+public interface PdfProcessingCheckpointRepository extends JpaRepository<PdfProcessingCheckpoint, Long> {
+
+    @Modifying
+    @Query(name = "PdfProcessingCheckpoint.advanceCompletedChunks")
+    int advanceCompletedChunks(@Param("fileMasterId") Long fileMasterId,
+                               @Param("completedChunks") int completedChunks);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -31,8 +32,8 @@ public interface ProcessingJobRepository extends JpaRepository<ProcessingJob, Lo
 
     /**
      * Finds all jobs that are in one of the specified non-terminal statuses.
-     * This is used by the {@link com.eyelevel.documentprocessor.scheduler.JobLifecycleScheduler}
-     * to find active jobs that need a completion check.
+     * This is used by the {@link com.eyelevel.documentprocessor.service.job.JobLifecycleManager}
+     * to find active jobs for termination.
      *
      * @param statuses A list of statuses to search for (e.g., {@code QUEUED}, {@code PROCESSING}).
      * @return A list of matching {@link ProcessingJob} entities.
@@ -44,4 +45,28 @@ public interface ProcessingJobRepository extends JpaRepository<ProcessingJob, Lo
     int updateStatusForIds(@Param("jobIds") List<Long> jobIds,
                            @Param("newStatus") ProcessingStatus newStatus,
                            @Param("stageMessage") String stageMessage);
-}
\ No newline at end of file
+
+    /**
+     * Moves every active or retryable job whose ZIP, file and GX records have all settled to its final status,
+     * computing the status counts of all candidate jobs in a single aggregate pass.
+     *
+     * @param jobId The only job to evaluate, or {@code null} to evaluate all of them.
+     * @return The number of jobs whose status or remark changed.
+     */
+    @Modifying
+    @Query(name = "ProcessingJob.finalizeSettledJobs.native", nativeQuery = true)
+    int finalizeSettledJobs(@Param("jobId") Long jobId);
+
+    /**
+     * Moves up to {@code batchSize} jobs in one of the given final statuses, last updated more than
+     * {@code retentionDays} ago, with all of their records, from the hot tables into the monthly partitions of the
+     * archive tables. Jobs locked by another transaction are skipped.
+     *
+     * @param statuses The names of the {@link ProcessingStatus} values to archive.
+     *
+     * @return The number of jobs archived.
+     */
+    @Query(name = "ProcessingJob.archiveFinalizedJobs.native", nativeQuery = true)
+    int archiveFinalizedJobs(@Param("retentionDays") long retentionDays,
+                             @Param("statuses") Collection<String> statuses, @Param("batchSize") int batchSize);
+}
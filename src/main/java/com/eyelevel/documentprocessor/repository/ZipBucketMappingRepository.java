@@ -0,0 +1,34 @@
+package com.eyelevel.documentprocessor.repository;
+
+import com.eyelevel.documentprocessor.model.ZipBucketMapping;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for the {@link ZipBucketMapping} entity.
+ */
+@Repository
+public interface ZipBucketMappingRepository extends JpaRepository<ZipBucketMapping, Long> {
+
+    List<ZipBucketMapping> findAllByZipMasterId(Long zipMasterId);
+
+    Optional<ZipBucketMapping> findByZipMasterIdAndFolderName(Long zipMasterId, String folderName);
+
+    /**
+     * Records a folder's bucket unless a mapping for the folder already exists.
+     *
+     * @return {@code 1} if the mapping was inserted, {@code 0} if another attempt recorded the folder first.
+     */
+    @Modifying
+    @Transactional
+    @Query(name = "ZipBucketMapping.insertIfAbsent.native", nativeQuery = true)
+    int insertIfAbsent(@Param("zipMasterId") Long zipMasterId, @Param("folderName") String folderName,
+                       @Param("gxBucketId") Integer gxBucketId);
+}
@@ -1,22 +1,23 @@
 package com.eyelevel.documentprocessor.scheduler;
 
 import com.eyelevel.documentprocessor.common.apiclient.gx.GXApiClient;
-import com.eyelevel.documentprocessor.dto.gx.uploadstatus.response.IngestResponse;
+import com.eyelevel.documentprocessor.common.apiclient.resilience.ApiResilience;
 import com.eyelevel.documentprocessor.model.GxMaster;
-import com.eyelevel.documentprocessor.model.GxStatus;
 import com.eyelevel.documentprocessor.repository.GxMasterRepository;
+import com.eyelevel.documentprocessor.service.gx.GxPollingPolicy;
+import com.eyelevel.documentprocessor.service.gx.GxProcessStatus;
+import com.eyelevel.documentprocessor.service.gx.GxStatusSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
 
 /**
  * A scheduler responsible for periodically fetching the ingestion status of documents
@@ -27,101 +28,80 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class GXDocumentUploadFetchStatus {
 
+    private static final UUID LOWEST_PROCESS_ID = new UUID(0L, 0L);
+
     private final GxMasterRepository gxMasterRepository;
+    private final GxStatusSyncService statusSyncService;
     private final GXApiClient gxApiClient;
 
+    @Value("${app.gx.status.page-size}")
+    private int pageSize;
+
+    @Value("${app.gx.status.concurrency}")
+    private int fetchConcurrency;
+
     /**
      * Runs on a fixed schedule to query the status of all documents currently being processed by GX.
      * <p>
-     * This method fetches all {@link GxMaster} records in {@code PROCESSING} or {@code QUEUED} states,
-     * calls the GX API for each, and updates their status in the database in a single batch transaction.
-     * Failures are isolated to prevent one failed API call from halting the entire process.
+     * This method pages through the distinct process IDs of {@link GxMaster} records in {@code PROCESSING} or
+     * {@code QUEUED} states whose next poll is due (see {@link GxPollingPolicy}), fetches each process once with up
+     * to {@code app.gx.status.concurrency} requests in flight on the non-blocking client, and applies every page of
+     * responses in its own short transaction. Failures are isolated to prevent one failed API call from halting the
+     * entire process.
      */
     @Scheduled(cron = "${app.scheduler.fetch-doc-upload-status}")
-    @Transactional
     public void fetchDocumentUploadStatus() {
         log.info("Starting GX document status fetch scheduler...");
-
-        final List<GxStatus> activeStatuses = List.of(GxStatus.PROCESSING, GxStatus.QUEUED);
-        List<GxMaster> activeProcesses =
-                gxMasterRepository.findAllByGxStatusInOrderByCreatedAtAsc(activeStatuses, Pageable.unpaged())
-                        .getContent();
-        
-        if (CollectionUtils.isEmpty(activeProcesses)) {
-            log.info("No active GX processes found. Scheduler run is complete.");
+        if (!gxApiClient.isAvailable()) {
+            log.warn("GX circuit breaker is open. Skipping this status fetch run.");
             return;
         }
 
-        log.info("Found {} active GX processes to check for status updates.", activeProcesses.size());
-        final List<GxMaster> mastersToUpdate = new ArrayList<>();
+        int processCount = 0;
+        int updatedCount = 0;
+        // The nil UUID sorts before every other UUID in PostgreSQL, so the first page starts at the beginning.
+        UUID lastProcessId = LOWEST_PROCESS_ID;
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            List<UUID> processIds;
+            do {
+                processIds = gxMasterRepository.findActiveProcessIdsAfter(lastProcessId, now, pageSize);
+                if (processIds.isEmpty()) {
+                    break;
+                }
 
-        for (final GxMaster gxMaster : activeProcesses) {
-            try {
-                log.debug("Fetching status for GxMaster ID: {}, Process ID: {}", gxMaster.getId(),
-                        gxMaster.getGxProcessId());
-                final IngestResponse ingestResponse = gxApiClient.fetchUploadDocumentStatus(gxMaster.getGxProcessId());
+                final List<GxProcessStatus> processStatuses = Flux.fromIterable(processIds)
+                        .flatMap(this::fetchProcessStatus, fetchConcurrency)
+                        .collectList()
+                        .block();
 
-                extractDocumentDetails(ingestResponse).ifPresentOrElse(documentDetails -> {
-                    updateMasterFromDocumentDetails(gxMaster, documentDetails);
-                    mastersToUpdate.add(gxMaster);
-                }, () -> log.warn("Could not find document details in GX response for process ID: {}",
-                        gxMaster.getGxProcessId()));
+                updatedCount += statusSyncService.applyProcessStatuses(processStatuses);
+                processCount += processIds.size();
+                lastProcessId = processIds.getLast();
+            } while (processIds.size() == pageSize);
 
-            } catch (final Exception e) {
-                log.error("Failed to fetch or process status for GxMaster ID: {}. Marking as ERROR.", gxMaster.getId(),
-                        e);
-                gxMaster.setGxStatus(GxStatus.ERROR);
-                gxMaster.setErrorMessage("Failed to retrieve status from GX: " + e.getMessage());
-                mastersToUpdate.add(gxMaster);
-            }
+        } catch (final Exception e) {
+            log.error("An unexpected error occurred during the GX document status fetch scheduler run.", e);
         }
 
-        if (!mastersToUpdate.isEmpty()) {
-            gxMasterRepository.saveAll(mastersToUpdate);
-            log.info("Successfully updated status for {} GxMaster records.", mastersToUpdate.size());
-        }
-
-        log.info("GX document status fetch scheduler finished successfully.");
-    }
-
-    /**
-     * Safely extracts the first available document details from the ingestion response.
-     * It checks categories in order of finality: complete, errors, cancelled, and finally processing.
-     *
-     * @param ingestResponse The response from the GX API.
-     * @return An {@link Optional} containing the document details if found.
-     */
-    private Optional<IngestResponse.Document> extractDocumentDetails(final IngestResponse ingestResponse) {
-        if (ingestResponse == null || ingestResponse.ingest() == null || ingestResponse.ingest().progress() == null) {
-            return Optional.empty();
+        if (processCount == 0) {
+            log.info("No GX processes are due for a status check. Scheduler run is complete.");
+            return;
         }
-        final IngestResponse.Progress progress = ingestResponse.ingest().progress();
-        return findFirstDocumentInCategory(progress.complete()).or(() -> findFirstDocumentInCategory(progress.errors()))
-                .or(() -> findFirstDocumentInCategory(
-                        progress.cancelled()))
-                .or(() -> findFirstDocumentInCategory(
-                        progress.processing()));
+        log.info("GX document status fetch scheduler finished. Checked {} processes and updated {} GxMaster records.",
+                 processCount, updatedCount);
     }
 
-    /**
-     * A helper method to safely get the first document from a progress category.
-     */
-    private Optional<IngestResponse.Document> findFirstDocumentInCategory(
-            final IngestResponse.ProgressCategory category) {
-        return (category != null && !CollectionUtils.isEmpty(category.documents())) ? Optional.of(
-                category.documents().getFirst()) : Optional.empty();
-    }
-
-    /**
-     * Updates a GxMaster entity based on the details from the API response.
-     */
-    private void updateMasterFromDocumentDetails(final GxMaster gxMaster, final IngestResponse.Document document) {
-        final GxStatus newStatus = GxStatus.convertByValue(document.status());
-        gxMaster.setGxStatus(newStatus);
-        if (StringUtils.hasText(document.statusMessage())) {
-            gxMaster.setErrorMessage(document.statusMessage());
-        }
-        log.info("Updating GxMaster ID: {}. New status: {}, Message: '{}'", gxMaster.getId(), newStatus,
-                gxMaster.getErrorMessage());
+    private Mono<GxProcessStatus> fetchProcessStatus(final UUID processId) {
+        log.debug("Fetching status for Process ID: {}", processId);
+        return gxApiClient.fetchUploadDocumentStatusReactive(processId)
+                          .map(response -> GxProcessStatus.fetched(processId, response))
+                          .switchIfEmpty(Mono.fromSupplier(() -> GxProcessStatus.failed(
+                                  processId, "Received an empty response from GX API.", false)))
+                          .onErrorResume(e -> {
+                              log.error("Failed to fetch status for process ID: {}.", processId, e);
+                              return Mono.just(GxProcessStatus.failed(processId, e.getMessage(),
+                                                                      ApiResilience.isTransientFailure(e)));
+                          });
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,23 @@
 package com.eyelevel.documentprocessor.scheduler;
 
 import com.eyelevel.documentprocessor.common.apiclient.gx.GXApiClient;
-import com.eyelevel.documentprocessor.dto.gx.docupload.GXDocumentUploadParameters;
-import com.eyelevel.documentprocessor.dto.gx.docupload.response.GXUploadDocumentResponse;
-import com.eyelevel.documentprocessor.exception.apiclient.ApiException;
 import com.eyelevel.documentprocessor.model.GxMaster;
 import com.eyelevel.documentprocessor.model.GxStatus;
 import com.eyelevel.documentprocessor.repository.GxMasterRepository;
-import com.eyelevel.documentprocessor.service.s3.S3StorageService;
+import com.eyelevel.documentprocessor.service.gx.GxBatchUploader;
+import com.eyelevel.documentprocessor.service.gx.GxUploadOutcome;
+import com.eyelevel.documentprocessor.service.gx.GxUploadQueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 
-import java.net.URL;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * A scheduler that manages the uploading of processed documents to the GroundX (GX) service.
@@ -31,27 +28,41 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GXDocumentUploadScheduler {
 
+    private final GxUploadQueueService uploadQueueService;
+    private final GxBatchUploader batchUploader;
     private final GxMasterRepository gxMasterRepository;
-    private final S3StorageService s3StorageService;
     private final GXApiClient gxApiClient;
 
     @Value("${app.gx.max-process}")
     private int maxConcurrentGxProcesses;
 
+    @Value("${app.gx.upload.concurrency}")
+    private int uploadConcurrency;
+
+    @Value("${app.gx.upload.claim-timeout-minutes}")
+    private long claimTimeoutMinutes;
+
     /**
      * Runs on a fixed schedule to initiate document uploads to GroundX.
      * <p>
      * This method respects a concurrency limit ({@code maxConcurrentGxProcesses}) to avoid overloading
-     * the external service. It fetches a batch of documents ready for upload, calls the GX API
-     * to start the ingestion, and updates the database records within a single transaction.
+     * the external service. It claims the documents ready for upload in a short transaction, submits them as
+     * multi-document ingest requests with up to {@code app.gx.upload.concurrency} requests in flight on the
+     * non-blocking client, outside of any transaction, and records the responses in a second short transaction.
      */
     @Scheduled(cron = "${app.scheduler.gx-doc-upload}")
-    @Transactional
     public void initiateGXDocumentUpload() {
         log.info("Starting GX document upload scheduler...");
+        if (!gxApiClient.isAvailable()) {
+            log.warn("GX circuit breaker is open. Skipping this upload run.");
+            return;
+        }
 
         try {
-            final List<GxStatus> inProgressStatuses = List.of(GxStatus.QUEUED, GxStatus.PROCESSING);
+            uploadQueueService.failStaleClaims(Duration.ofMinutes(claimTimeoutMinutes));
+
+            final List<GxStatus> inProgressStatuses = List.of(GxStatus.UPLOADING, GxStatus.QUEUED,
+                                                              GxStatus.PROCESSING);
             final long gxProcessingCount = gxMasterRepository.countByGxStatusIn(inProgressStatuses);
 
             if (gxProcessingCount >= maxConcurrentGxProcesses) {
@@ -61,79 +72,31 @@ public class GXDocumentUploadScheduler {
             }
 
             final int availableSlots = (int) (maxConcurrentGxProcesses - gxProcessingCount);
-            final List<GxMaster> documentsToUpload = gxMasterRepository.findByGxStatusOrderByCreatedAtAsc(
-                    GxStatus.QUEUED_FOR_UPLOAD, PageRequest.of(0, availableSlots));
+            final List<GxMaster> documentsToUpload = uploadQueueService.claimBatch(availableSlots);
 
             if (CollectionUtils.isEmpty(documentsToUpload)) {
                 log.info("No documents are currently queued for upload to GX. Scheduler run is complete.");
                 return;
             }
 
-            log.info("Found {} documents to upload to GX. Available slots: {}", documentsToUpload.size(),
+            log.info("Claimed {} documents to upload to GX. Available slots: {}", documentsToUpload.size(),
                      availableSlots);
-            final List<GxMaster> updatedMasters = new ArrayList<>();
-            for (final GxMaster gxMaster : documentsToUpload) {
-                processDocumentUpload(gxMaster);
-                updatedMasters.add(gxMaster);
-            }
-
-            gxMasterRepository.saveAll(updatedMasters);
-            log.info("Successfully initiated upload for {} documents.", updatedMasters.size());
+            final long startNanos = System.nanoTime();
+            final List<List<GxMaster>> batches = batchUploader.planBatches(documentsToUpload);
+            final List<GxUploadOutcome> outcomes = Flux.fromIterable(batches)
+                    .flatMap(batchUploader::uploadBatch, uploadConcurrency)
+                    .flatMapIterable(Function.identity())
+                    .collectList()
+                    .block();
+
+            uploadQueueService.applyResults(outcomes);
+            log.info("Initiated upload for {} documents in {} batch(es) in {} ms ({} concurrent).", outcomes.size(),
+                     batches.size(), Duration.ofNanos(System.nanoTime() - startNanos).toMillis(),
+                     uploadConcurrency);
 
         } catch (final Exception e) {
             log.error("An unexpected error occurred during the GX document upload scheduler run.", e);
         }
         log.info("GX document upload scheduler finished.");
     }
-
-    /**
-     * Processes a single document for upload by generating a pre-signed URL and calling the GX API.
-     */
-    private void processDocumentUpload(final GxMaster gxMaster) {
-        try {
-            final URL downloadUrl = s3StorageService.generatePresignedDownloadUrl(gxMaster.getFileLocation());
-            final GXDocumentUploadParameters uploadParams = new GXDocumentUploadParameters(gxMaster.getGxBucketId(),
-                                                                                           gxMaster.getProcessedFileName(),
-                                                                                           gxMaster.getExtension(),
-                                                                                           downloadUrl.toExternalForm());
-
-            final GXUploadDocumentResponse response = gxApiClient.uploadDocument(uploadParams);
-            updateMasterFromApiResponse(response, gxMaster);
-
-        } catch (final ApiException e) {
-            log.error("API error while uploading GxMaster ID {}: {}", gxMaster.getId(), e.getMessage(), e);
-            gxMaster.setGxStatus(GxStatus.ERROR);
-            gxMaster.setErrorMessage("API Error: " + e.getMessage());
-        } catch (final Exception e) {
-            log.error("Unexpected error while processing GxMaster ID {}: {}", gxMaster.getId(), e.getMessage(), e);
-            gxMaster.setGxStatus(GxStatus.ERROR);
-            gxMaster.setErrorMessage("Unexpected Error: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Updates the GxMaster entity based on the response from the GX API.
-     */
-    private void updateMasterFromApiResponse(final GXUploadDocumentResponse response, final GxMaster gxMaster) {
-        if (response == null) {
-            gxMaster.setGxStatus(GxStatus.ERROR);
-            gxMaster.setErrorMessage("Received a null response from GX API.");
-            return;
-        }
-
-        if (response.ingest() != null && response.ingest().processId() != null) {
-            gxMaster.setGxProcessId(response.ingest().processId());
-            gxMaster.setGxStatus(GxStatus.convertByValue(response.ingest().status()));
-            log.info("Successfully initiated GX upload for GxMaster ID {}. Process ID: {}, Status: {}",
-                     gxMaster.getId(), gxMaster.getGxProcessId(), gxMaster.getGxStatus());
-        } else if (StringUtils.hasText(response.message())) {
-            gxMaster.setGxStatus(GxStatus.ERROR);
-            gxMaster.setErrorMessage(response.message());
-            log.warn("GX upload failed for GxMaster ID {} with message: {}", gxMaster.getId(), response.message());
-        } else {
-            gxMaster.setGxStatus(GxStatus.ERROR);
-            gxMaster.setErrorMessage("Received an invalid or incomplete response from GX API.");
-            log.error("Invalid response from GX for GxMaster ID {}: {}", gxMaster.getId(), response);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.eyelevel.documentprocessor.scheduler;
+
+import com.eyelevel.documentprocessor.model.ProcessingStatus;
+import com.eyelevel.documentprocessor.service.job.JobLifecycleManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A scheduler that moves finalized jobs past their retention window out of the hot tables.
+ * <p>
+ * Jobs in one of {@code app.archival.statuses} that have not been updated for {@code app.archival.retention-days}
+ * are moved, with their ZIP, file and GX records, into archive tables partitioned by month of archival. The hot
+ * tables, and the {@code document_status} listing built from them, then only grow with recent work. By default only
+ * COMPLETED and TERMINATED jobs are archived; FAILED and PARTIAL_SUCCESS jobs can still be retried and are only
+ * archived when configured explicitly. Archival is off unless {@code app.archival.enabled} is set. Each batch is
+ * archived in its own transaction, and jobs locked by another node are skipped, so several nodes can run this at
+ * once.
+ */
+@Slf4j
+@Component
+public class JobArchivalScheduler {
+
+    private static final Set<ProcessingStatus> FINAL_STATUSES = EnumSet.of(ProcessingStatus.COMPLETED,
+                                                                           ProcessingStatus.PARTIAL_SUCCESS,
+                                                                           ProcessingStatus.FAILED,
+                                                                           ProcessingStatus.TERMINATED);
+
+    private final JobLifecycleManager jobLifecycleManager;
+    private final boolean archivalEnabled;
+    private final Set<ProcessingStatus> archivableStatuses;
+    private final long retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    /**
+     * @throws IllegalStateException if archival is enabled without statuses to archive, or with a status that is not
+     *                               final.
+     */
+    public JobArchivalScheduler(final JobLifecycleManager jobLifecycleManager,
+                                @Value("${app.archival.enabled}") final boolean archivalEnabled,
+                                @Value("${app.archival.statuses}") final ProcessingStatus[] archivableStatuses,
+                                @Value("${app.archival.retention-days}") final long retentionDays,
+                                @Value("${app.archival.batch-size}") final int batchSize,
+                                @Value("${app.archival.max-batches-per-run}") final int maxBatchesPerRun) {
+        this.archivableStatuses = archivableStatuses.length == 0 ? EnumSet.noneOf(ProcessingStatus.class)
+                                                                 : EnumSet.copyOf(Arrays.asList(archivableStatuses));
+        if (archivalEnabled && this.archivableStatuses.isEmpty()) {
+            throw new IllegalStateException("app.archival.statuses must name at least one status when "
+                                            + "app.archival.enabled is true.");
+        }
+        if (!FINAL_STATUSES.containsAll(this.archivableStatuses)) {
+            throw new IllegalStateException("app.archival.statuses may only contain " + FINAL_STATUSES
+                                            + " but was " + this.archivableStatuses + ".");
+        }
+        this.jobLifecycleManager = jobLifecycleManager;
+        this.archivalEnabled = archivalEnabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Archives batches of eligible jobs until none are left or {@code app.archival.max-batches-per-run} is reached;
+     * the remainder is picked up by the next run.
+     */
+    @Scheduled(cron = "${app.scheduler.job-archival}")
+    public void archiveFinalizedJobs() {
+        if (!archivalEnabled) {
+            return;
+        }
+        log.info("Starting job archival. Archiving {} jobs last updated more than {} day(s) ago.", archivableStatuses,
+                 retentionDays);
+        final long startNanos = System.nanoTime();
+        int archivedCount = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                final int batchCount = jobLifecycleManager.archiveFinalizedJobs(retentionDays, archivableStatuses,
+                                                                                batchSize);
+                archivedCount += batchCount;
+                if (batchCount < batchSize) {
+                    break;
+                }
+            }
+        } catch (final Exception e) {
+            log.error("Error during job archival after archiving {} job(s). Remaining jobs will be archived on the "
+                      + "next run.", archivedCount, e);
+            return;
+        }
+        log.info("Finished job archival. Archived {} job(s) in {} ms.", archivedCount,
+                 (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
@@ -0,0 +1,56 @@
+package com.eyelevel.documentprocessor.scheduler;
+
+import com.eyelevel.documentprocessor.service.file.view.DocumentProcessingViewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * A scheduler that folds the bucket status count deltas appended by the {@code document_status} triggers into
+ * {@code bucket_status_counts}.
+ * <p>
+ * Writers only append deltas, so batches changing documents of the same bucket and status never wait on a shared
+ * counter row. Metrics add the pending deltas to the rolled-up counts, so they stay exact between runs; the roll-up
+ * only keeps the number of pending deltas small. Each batch runs in its own transaction and skips deltas taken by
+ * another node, so several nodes can run this at once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatusCountRollUpScheduler {
+
+    private final DocumentProcessingViewService documentProcessingViewService;
+
+    @Value("${app.views.status-count-roll-up-batch-size}")
+    private int batchSize;
+
+    @Value("${app.views.status-count-roll-up-max-batches-per-run}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Rolls up batches of pending deltas until none are left or {@code max-batches-per-run} is reached; the remainder
+     * is picked up by the next run.
+     */
+    @Scheduled(cron = "${app.scheduler.status-count-roll-up}")
+    public void rollUpStatusCounts() {
+        int updatedCount = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                final int batchCount = documentProcessingViewService.rollUpStatusCounts(batchSize);
+                if (batchCount == 0) {
+                    break;
+                }
+                updatedCount += batchCount;
+            }
+        } catch (final Exception e) {
+            log.error("Error while rolling up bucket status counts. Pending deltas will be rolled up on the next run.",
+                      e);
+            return;
+        }
+        if (updatedCount > 0) {
+            log.debug("Rolled up bucket status count deltas into {} counter row(s).", updatedCount);
+        }
+    }
+}
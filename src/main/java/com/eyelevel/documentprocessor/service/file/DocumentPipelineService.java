@@ -1,5 +1,6 @@
 package com.eyelevel.documentprocessor.service.file;
 
+import com.eyelevel.documentprocessor.config.DocumentProcessingConfig;
 import com.eyelevel.documentprocessor.exception.MessageProcessingFailedException;
 import com.eyelevel.documentprocessor.model.*;
 import com.eyelevel.documentprocessor.repository.FileMasterRepository;
@@ -9,7 +10,9 @@ import com.eyelevel.documentprocessor.service.asynctask.FileMasterPostUploadActi
 import com.eyelevel.documentprocessor.service.asynctask.GxMasterPostUploadAction;
 import com.eyelevel.documentprocessor.service.handlers.FileHandler;
 import com.eyelevel.documentprocessor.service.handlers.factory.FileHandlerFactory;
+import com.eyelevel.documentprocessor.service.handlers.impl.pdfhandler.checkpoint.PdfCheckpointService;
 import com.eyelevel.documentprocessor.service.job.JobLifecycleManager;
+import com.eyelevel.documentprocessor.service.s3.S3ObjectReferenceService;
 import com.eyelevel.documentprocessor.service.s3.S3StorageService;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -57,6 +60,9 @@ public class DocumentPipelineService {
     private final AsyncTaskManager asyncTaskManager;
     private final FileMasterPostUploadAction fileMasterPostUploadAction;
     private final GxMasterPostUploadAction gxMasterPostUploadAction;
+    private final S3ObjectReferenceService s3ObjectReferenceService;
+    private final PdfCheckpointService pdfCheckpointService;
+    private final boolean referenceSourceOnPassthrough;
     private DocumentPipelineService self;
 
     private record FileMetadata(String fileName, long fileSize, String extension, String fileHash) {
@@ -68,7 +74,10 @@ public class DocumentPipelineService {
                                    FileMasterAtomicService fileMasterAtomicService,
                                    FileMasterPostUploadAction fileMasterPostUploadAction,
                                    GxMasterPostUploadAction gxMasterPostUploadAction,
-                                   AsyncTaskManager asyncTaskManager) {
+                                   AsyncTaskManager asyncTaskManager,
+                                   S3ObjectReferenceService s3ObjectReferenceService,
+                                   PdfCheckpointService pdfCheckpointService,
+                                   DocumentProcessingConfig config) {
         this.fileMasterRepository = fileMasterRepository;
         this.gxMasterRepository = gxMasterRepository;
         this.fileHandlerFactory = fileHandlerFactory;
@@ -79,6 +88,9 @@ public class DocumentPipelineService {
         this.fileMasterPostUploadAction = fileMasterPostUploadAction;
         this.gxMasterPostUploadAction = gxMasterPostUploadAction;
         this.asyncTaskManager = asyncTaskManager;
+        this.s3ObjectReferenceService = s3ObjectReferenceService;
+        this.pdfCheckpointService = pdfCheckpointService;
+        this.referenceSourceOnPassthrough = config.isReferenceSourceOnPassthrough();
     }
 
 
@@ -130,13 +142,15 @@ public class DocumentPipelineService {
         final String ext = sourceFile.getExtension() == null ? "" : sourceFile.getExtension().toLowerCase();
         final long sourceId = sourceFile.getId();
 
-        // PDF handler → every result is a final artifact
+        // PDF handler → every result is a final artifact; no result means the source passes through unchanged
         if ("pdf".equals(ext)) {
             log.info("PDF handler produced {} result(s) for FileMaster ID {}.", results.size(), sourceId);
             if (results.isEmpty()) {
                 self.createOrUpdateGxMasterRecord(sourceFile, null);
             } else {
                 results.forEach(item -> self.createGxMasterForFinalArtifact(item, sourceFile));
+                // Every part now has a committed GxMaster record, so a retry no longer needs the split checkpoint.
+                pdfCheckpointService.clear(sourceFile);
             }
             return;
         }
@@ -360,9 +374,7 @@ public class DocumentPipelineService {
             updateFileStatusToIgnored(fileMaster, "File type '" + fileMaster.getExtension() + "' is not supported.");
             return Collections.emptyList();
         }
-        try (InputStream inputStream = Files.newInputStream(tempFile)) {
-            return handlerOpt.get().handle(new BufferedInputStream(inputStream), fileMaster);
-        }
+        return handlerOpt.get().handle(tempFile, fileMaster);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -397,6 +409,7 @@ public class DocumentPipelineService {
 
         final ProcessingJob job = sourceFile.getProcessingJob();
         final boolean isNewContent = (artifact != null);
+        final String previousS3Key = gxRecord.getFileLocation();
         final String finalS3Key;
 
         if (isNewContent) {
@@ -407,10 +420,13 @@ public class DocumentPipelineService {
             gxRecord.setFileSize((long) artifact.getContent().length);
             gxRecord.setExtension(FilenameUtils.getExtension(artifact.getFilename()).toLowerCase());
         } else {
-            finalS3Key = s3StorageService.copyToGxFiles(
-                    sourceFile.getFileLocation(), sourceFile.getFileName(),
-                    sourceFile.getGxBucketId(), job.getId()
-            );
+            // Passthrough: GX only needs a readable key, so point at the source object instead of copying it.
+            finalS3Key = referenceSourceOnPassthrough
+                    ? sourceFile.getFileLocation()
+                    : s3StorageService.copyToGxFiles(
+                            sourceFile.getFileLocation(), sourceFile.getFileName(),
+                            sourceFile.getGxBucketId(), job.getId(), sourceFile.getFileSize()
+                    );
             gxRecord.setProcessedFileName(sourceFile.getFileName());
             gxRecord.setFileSize(sourceFile.getFileSize());
             gxRecord.setExtension(sourceFile.getExtension());
@@ -427,6 +443,11 @@ public class DocumentPipelineService {
         log.info("{} GxMaster record ID {} for source FileMaster ID: {}.",
                 (gxRecord.getId() == null ? "Created" : "Updated"), savedRecord.getId(), sourceFile.getId());
 
+        // The record no longer points at its previous object; delete it once nothing else references it.
+        if (previousS3Key != null && !previousS3Key.equals(finalS3Key)) {
+            s3ObjectReferenceService.releaseAfterCommit(previousS3Key);
+        }
+
         // Schedule async upload only for new content
         if (isNewContent) {
             asyncTaskManager.scheduleUploadAfterCommit(
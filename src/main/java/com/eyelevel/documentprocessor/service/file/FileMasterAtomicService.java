@@ -23,6 +23,9 @@ public class FileMasterAtomicService {
     /**
      * Finds the definitive "winning" record for a given hash in a new, read-only transaction.
      * This can be safely called at any time.
+     * <p>
+     * If the winner belongs to a job that has since been archived, it is returned as a detached record carrying
+     * only its ID, bucket and hash, which is all a duplicate needs to reference its original.
      *
      * @param gxBucketId The bucket ID.
      * @param fileHash The file hash.
@@ -30,11 +33,21 @@ public class FileMasterAtomicService {
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     public Optional<FileMaster> findWinner(Integer gxBucketId, String fileHash) {
-        return fileMasterRepository.findFirstByGxBucketIdAndFileHashAndFileProcessingStatusNotInOrderByIdAsc(
-                gxBucketId,
-                fileHash,
-                List.of(FileProcessingStatus.FAILED, FileProcessingStatus.IGNORED)
-                                                                                                            );
+        final Optional<FileMaster> winner =
+                fileMasterRepository.findFirstByGxBucketIdAndFileHashAndFileProcessingStatusNotInOrderByIdAsc(
+                        gxBucketId,
+                        fileHash,
+                        List.of(FileProcessingStatus.FAILED, FileProcessingStatus.IGNORED)
+                                                                                                             );
+        if (winner.isPresent()) {
+            return winner;
+        }
+        return fileMasterRepository.findArchivedWinnerId(gxBucketId, fileHash)
+                                   .map(archivedId -> FileMaster.builder()
+                                                                .id(archivedId)
+                                                                .gxBucketId(gxBucketId)
+                                                                .fileHash(fileHash)
+                                                                .build());
     }
 
     /**
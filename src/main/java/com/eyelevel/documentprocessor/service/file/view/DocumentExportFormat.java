@@ -0,0 +1,24 @@
+package com.eyelevel.documentprocessor.service.file.view;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * The formats a bucket's document statuses can be exported in.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentExportFormat {
+    /**
+     * One JSON object per line.
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    /**
+     * Comma-separated values with a header row, quoted per RFC 4180.
+     */
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+}
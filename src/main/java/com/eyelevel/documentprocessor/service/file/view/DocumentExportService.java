@@ -0,0 +1,130 @@
+package com.eyelevel.documentprocessor.service.file.view;
+
+import com.eyelevel.documentprocessor.dto.view.response.DocumentExportRow;
+import com.eyelevel.documentprocessor.repository.DocumentProcessingViewRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams every document of a bucket to an output stream as NDJSON or CSV.
+ * <p>
+ * The documents are read through a single server-side cursor (see
+ * {@link DocumentProcessingViewRepository#streamByGxBucketId(Integer)}) and written as they arrive, so memory use
+ * stays constant however large the bucket is.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,fileMasterId,gxMasterId,zipFileName,fileName,extension,fileSize,"
+                                             + "gxBucketId,processingStage,status,error,createdAt";
+
+    private final DocumentProcessingViewRepository documentProcessingViewRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes all documents of a bucket, newest first, to the output stream. The stream is flushed but not closed.
+     * The transaction keeps the database cursor open while the rows are written.
+     *
+     * @return The number of documents written.
+     * @throws IOException if writing to the output stream fails, e.g. because the client disconnected.
+     */
+    @Transactional(readOnly = true)
+    public long export(final Integer gxBucketId, final DocumentExportFormat format, final OutputStream outputStream)
+            throws IOException {
+        final long startNanos = System.nanoTime();
+        final long count;
+        try (Stream<DocumentExportRow> rows = documentProcessingViewRepository.streamByGxBucketId(gxBucketId)) {
+            count = format == DocumentExportFormat.CSV
+                    ? writeCsv(rows.iterator(), outputStream)
+                    : writeNdjson(rows.iterator(), outputStream);
+        }
+        log.info("Exported {} document(s) of gxBucketId {} as {} in {} ms.", count, gxBucketId, format,
+                 (System.nanoTime() - startNanos) / 1_000_000);
+        return count;
+    }
+
+    private long writeNdjson(final Iterator<DocumentExportRow> rows, final OutputStream outputStream)
+            throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                                                 WRITE_BUFFER_SIZE);
+        long count = 0;
+        try (SequenceWriter sequenceWriter = objectMapper.writer()
+                                                         .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                                                         .withRootValueSeparator("\n")
+                                                         .writeValues(writer)) {
+            while (rows.hasNext()) {
+                sequenceWriter.write(rows.next());
+                count++;
+            }
+        }
+        if (count > 0) {
+            writer.write('\n');
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeCsv(final Iterator<DocumentExportRow> rows, final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                                                 WRITE_BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long count = 0;
+        while (rows.hasNext()) {
+            final DocumentExportRow row = rows.next();
+            writer.write(String.join(",", csv(row.id()), csv(row.fileMasterId()), csv(row.gxMasterId()),
+                                     csv(row.zipFileName()), csv(row.fileName()), csv(row.extension()),
+                                     csv(row.fileSize()), csv(row.gxBucketId()), csv(row.processingStage()),
+                                     csv(row.status()), csv(row.error()), csv(row.createdAt())));
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Formats one CSV field. Text that a spreadsheet would evaluate as a formula, i.e. that starts with {@code =},
+     * {@code +}, {@code -}, {@code @}, a tab or a carriage return, is prefixed with a single quote and quoted, so
+     * file names and error messages taken from uploads are shown as text. Numbers and timestamps are written as is.
+     */
+    private static String csv(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        final String text = value.toString();
+        if (value instanceof CharSequence && isFormulaLike(text)) {
+            return "\"'" + text.replace("\"", "\"\"") + '"';
+        }
+        if (text.indexOf(',') == -1 && text.indexOf('"') == -1 && text.indexOf('\n') == -1
+            && text.indexOf('\r') == -1) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean isFormulaLike(final String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        final char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
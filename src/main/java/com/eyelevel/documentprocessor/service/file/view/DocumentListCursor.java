@@ -0,0 +1,43 @@
+package com.eyelevel.documentprocessor.service.file.view;
+
+import com.eyelevel.documentprocessor.exception.apiclient.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * The position of a document in a bucket listing ordered by {@code (createdAt, id)} descending, encoded as an
+ * opaque, URL-safe continuation token. The token names its bucket, so it cannot be replayed against another one.
+ */
+record DocumentListCursor(Integer gxBucketId, LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        final String raw = gxBucketId + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BadRequestException if the token is malformed or was issued for another bucket.
+     */
+    static DocumentListCursor decode(final String token, final Integer expectedGxBucketId) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected 3 parts but found " + parts.length + ".");
+            }
+            final DocumentListCursor cursor = new DocumentListCursor(Integer.valueOf(parts[0]),
+                                                                     LocalDateTime.parse(parts[1]),
+                                                                     Long.valueOf(parts[2]));
+            if (!cursor.gxBucketId().equals(expectedGxBucketId)) {
+                throw new IllegalArgumentException("Cursor was issued for bucket " + cursor.gxBucketId() + ".");
+            }
+            return cursor;
+        } catch (final RuntimeException e) {
+            throw new BadRequestException("The 'cursor' is not a valid continuation token for this bucket.");
+        }
+    }
+}
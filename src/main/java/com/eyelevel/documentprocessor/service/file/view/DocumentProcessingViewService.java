@@ -2,16 +2,23 @@ package com.eyelevel.documentprocessor.service.file.view;
 
 import com.eyelevel.documentprocessor.dto.metric.StatusMetric;
 import com.eyelevel.documentprocessor.dto.metric.response.StatusMetricItem;
+import com.eyelevel.documentprocessor.dto.view.response.DocumentSlice;
 import com.eyelevel.documentprocessor.repository.DocumentProcessingViewRepository;
 import com.eyelevel.documentprocessor.view.DocumentProcessingView;
 import com.smartsensesolutions.commons.dao.base.BaseRepository;
 import com.smartsensesolutions.commons.dao.base.BaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -26,10 +33,20 @@ import java.util.stream.Collectors;
 public class DocumentProcessingViewService extends BaseService<DocumentProcessingView, Long> {
 
     private final DocumentProcessingViewRepository documentProcessingViewRepository;
+    private final Map<Integer, CachedMetrics> metricsCache = new ConcurrentHashMap<>();
+
+    @Value("${app.views.metrics-cache-ttl-seconds}")
+    private long metricsCacheTtlSeconds;
+
+    private record CachedMetrics(List<StatusMetricItem> items, Instant expiresAt) {
+    }
 
     /**
      * Retrieves status metrics for a given list of bucket IDs.
      * The result is structured as a map where each key is a bucket ID and the value is a list of its status counts.
+     * <p>
+     * Dashboards request the same buckets every few seconds, so each bucket's metrics are cached for
+     * {@code app.views.metrics-cache-ttl-seconds}; only the buckets missing from the cache are queried.
      *
      * @param gxBucketIds The list of bucket IDs to query.
      *
@@ -40,14 +57,96 @@ public class DocumentProcessingViewService extends BaseService<DocumentProcessin
             return Map.of();
         }
 
-        log.debug("Fetching status metrics for gxBucketIds: {}", gxBucketIds);
+        final Instant now = Instant.now();
+        final Map<Integer, List<StatusMetricItem>> metrics = new HashMap<>();
+        final List<Integer> uncachedBucketIds = new ArrayList<>();
+        for (final Integer gxBucketId : new LinkedHashSet<>(gxBucketIds)) {
+            final CachedMetrics cached = metricsCache.get(gxBucketId);
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                if (!cached.items().isEmpty()) {
+                    metrics.put(gxBucketId, cached.items());
+                }
+            } else {
+                uncachedBucketIds.add(gxBucketId);
+            }
+        }
+        if (uncachedBucketIds.isEmpty()) {
+            return metrics;
+        }
+
+        log.debug("Fetching status metrics for gxBucketIds: {}", uncachedBucketIds);
         // The repository now returns a list of our clean DTO
-        List<StatusMetric> flatResults = documentProcessingViewRepository.findStatusMetricsByBucketIds(gxBucketIds);
+        List<StatusMetric> flatResults = documentProcessingViewRepository.findStatusMetricsByBucketIds(uncachedBucketIds);
 
         // Transform the flat list into the desired nested map structure
-        return flatResults.stream().collect(Collectors.groupingBy(StatusMetric::getGxBucketId, Collectors.mapping(
-                metric -> new StatusMetricItem(metric.getDisplayStatus(), metric.getStatusCount()),
-                Collectors.toList())));
+        final Map<Integer, List<StatusMetricItem>> fetched = flatResults.stream().collect(Collectors.groupingBy(
+                StatusMetric::getGxBucketId, Collectors.mapping(
+                        metric -> new StatusMetricItem(metric.getDisplayStatus(), metric.getStatusCount()),
+                        Collectors.toList())));
+        metrics.putAll(fetched);
+
+        if (metricsCacheTtlSeconds > 0) {
+            metricsCache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+            final Instant expiresAt = now.plusSeconds(metricsCacheTtlSeconds);
+            uncachedBucketIds.forEach(gxBucketId -> metricsCache.put(gxBucketId, new CachedMetrics(
+                    List.copyOf(fetched.getOrDefault(gxBucketId, List.of())), expiresAt)));
+        }
+        return metrics;
+    }
+
+    /**
+     * Folds up to {@code batchSize} pending bucket status count deltas into the rolled-up counts. Metrics already
+     * include pending deltas, so this only keeps the delta table small.
+     *
+     * @param batchSize The maximum number of deltas to fold.
+     *
+     * @return The number of counter rows updated, or 0 if no deltas were pending.
+     */
+    public int rollUpStatusCounts(final int batchSize) {
+        return documentProcessingViewRepository.rollUpStatusCountDeltas(batchSize);
+    }
+
+    /**
+     * Retrieves one page of a bucket's documents, newest first, using keyset pagination.
+     * <p>
+     * The listing seeks directly to the position encoded in the cursor, so every page costs the same regardless of
+     * its depth, and documents added while a client pages through do not shift or repeat later pages.
+     *
+     * @param gxBucketId The bucket to list.
+     * @param status     The display status to narrow the listing to, or {@code null} for all statuses.
+     * @param cursor     The {@code nextCursor} of the previous page, or {@code null} for the first page.
+     * @param size       The maximum number of documents to return.
+     *
+     * @return The page, with the cursor of the next page if there is one.
+     */
+    public DocumentSlice listDocumentsAfter(final Integer gxBucketId, final String status, final String cursor,
+                                            final int size) {
+        final DocumentListCursor after = cursor == null || cursor.isBlank()
+                                         ? null : DocumentListCursor.decode(cursor, gxBucketId);
+
+        // Fetch one extra row to learn whether another page follows without a separate count.
+        final List<DocumentProcessingView> rows = findBucketPage(gxBucketId, status, after, size + 1);
+        if (rows.size() <= size) {
+            return new DocumentSlice(rows, null, true);
+        }
+
+        final List<DocumentProcessingView> page = rows.subList(0, size);
+        final DocumentProcessingView lastRow = page.get(size - 1);
+        final String nextCursor = new DocumentListCursor(gxBucketId, lastRow.getCreatedAt(), lastRow.getId()).encode();
+        return new DocumentSlice(List.copyOf(page), nextCursor, false);
+    }
+
+    private List<DocumentProcessingView> findBucketPage(final Integer gxBucketId, final String status,
+                                                        final DocumentListCursor after, final int limit) {
+        if (after == null) {
+            return status == null
+                   ? documentProcessingViewRepository.findBucketFirstPage(gxBucketId, limit)
+                   : documentProcessingViewRepository.findBucketFirstPageByStatus(gxBucketId, status, limit);
+        }
+        return status == null
+               ? documentProcessingViewRepository.findBucketPageAfter(gxBucketId, after.createdAt(), after.id(), limit)
+               : documentProcessingViewRepository.findBucketPageAfterByStatus(gxBucketId, status, after.createdAt(),
+                                                                              after.id(), limit);
     }
 
     /**
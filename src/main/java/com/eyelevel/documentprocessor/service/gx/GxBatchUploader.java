@@ -0,0 +1,192 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.common.apiclient.gx.GXApiClient;
+import com.eyelevel.documentprocessor.common.apiclient.resilience.ApiResilience;
+import com.eyelevel.documentprocessor.dto.gx.docupload.GXDocumentUploadParameters;
+import com.eyelevel.documentprocessor.exception.apiclient.ApiException;
+import com.eyelevel.documentprocessor.model.GxMaster;
+import com.eyelevel.documentprocessor.model.GxStatus;
+import com.eyelevel.documentprocessor.service.s3.S3StorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Submits documents to GX as multi-document ingest requests.
+ * <p>
+ * Documents are grouped by bucket into batches of up to {@code app.gx.upload.batch-size}. GX returns one process
+ * ID per request, which is recorded on every document of the batch. When GX rejects a batch as a whole (a 4xx
+ * validation or payload-size error, or a response without a process ID), the batch is split in half and each half
+ * is retried, so a single bad document only fails itself. Documents that GX turned away without processing them,
+ * e.g. with a 429 or 503, are returned to the upload queue rather than marked as errors. After a timeout or another
+ * failure that GX may have processed the batch anyway, they are marked as errors instead of being sent again, so
+ * that a retry is a deliberate decision rather than a possible duplicate ingest.
+ */
+@Slf4j
+@Component
+public class GxBatchUploader {
+
+    private static final Set<Integer> BATCH_REJECTION_STATUS_CODES = Set.of(400, 413, 422);
+
+    private final GXApiClient gxApiClient;
+    private final S3StorageService s3StorageService;
+    private final int batchSize;
+
+    public GxBatchUploader(final GXApiClient gxApiClient, final S3StorageService s3StorageService,
+                           @Value("${app.gx.upload.batch-size}") final int batchSize) {
+        this.gxApiClient = gxApiClient;
+        this.s3StorageService = s3StorageService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Groups the documents into per-bucket batches, keeping the given order within each bucket.
+     * <p>
+     * GX reports the documents of an ingest process by file name only, so two documents with the same
+     * {@code processedFileName} are never placed in the same batch; otherwise their statuses could not be told
+     * apart when the process is polled.
+     */
+    public List<List<GxMaster>> planBatches(final List<GxMaster> gxMasters) {
+        final Map<Integer, List<GxMaster>> byBucket = new LinkedHashMap<>();
+        gxMasters.forEach(gxMaster -> byBucket.computeIfAbsent(gxMaster.getGxBucketId(), id -> new ArrayList<>())
+                                              .add(gxMaster));
+
+        final List<List<GxMaster>> batches = new ArrayList<>();
+        for (final List<GxMaster> bucketDocuments : byBucket.values()) {
+            final List<List<GxMaster>> bucketBatches = new ArrayList<>();
+            final List<Set<String>> bucketBatchNames = new ArrayList<>();
+            for (final GxMaster gxMaster : bucketDocuments) {
+                int target = 0;
+                while (target < bucketBatches.size()
+                       && (bucketBatches.get(target).size() >= batchSize
+                           || bucketBatchNames.get(target).contains(gxMaster.getProcessedFileName()))) {
+                    target++;
+                }
+                if (target == bucketBatches.size()) {
+                    bucketBatches.add(new ArrayList<>());
+                    bucketBatchNames.add(new HashSet<>());
+                }
+                bucketBatches.get(target).add(gxMaster);
+                bucketBatchNames.get(target).add(gxMaster.getProcessedFileName());
+            }
+            batches.addAll(bucketBatches);
+        }
+        return batches;
+    }
+
+    /**
+     * Uploads one batch planned by {@link #planBatches(List)}. The returned {@link Mono} never errors; every document
+     * gets an outcome. Nothing is sent until it is subscribed.
+     */
+    public Mono<List<GxUploadOutcome>> uploadBatch(final List<GxMaster> batch) {
+        return Mono.defer(() -> {
+            final List<GxUploadOutcome> presignFailures = new ArrayList<>();
+            final List<GxMaster> uploadable = new ArrayList<>(batch.size());
+            final List<GXDocumentUploadParameters> params = new ArrayList<>(batch.size());
+
+            for (final GxMaster gxMaster : batch) {
+                try {
+                    params.add(new GXDocumentUploadParameters(gxMaster.getGxBucketId(),
+                                                              gxMaster.getProcessedFileName(),
+                                                              gxMaster.getExtension(),
+                                                              s3StorageService.generatePresignedDownloadUrl(
+                                                                      gxMaster.getFileLocation()).toExternalForm()));
+                    uploadable.add(gxMaster);
+                } catch (final Exception e) {
+                    log.error("Could not generate a download URL for GxMaster ID {}: {}", gxMaster.getId(),
+                              e.getMessage(), e);
+                    presignFailures.add(
+                            GxUploadOutcome.failed(gxMaster.getId(), "Unexpected Error: " + e.getMessage()));
+                }
+            }
+
+            if (uploadable.isEmpty()) {
+                return Mono.just(presignFailures);
+            }
+            return submit(uploadable, params).map(outcomes -> {
+                final List<GxUploadOutcome> all = new ArrayList<>(presignFailures.size() + outcomes.size());
+                all.addAll(presignFailures);
+                all.addAll(outcomes);
+                return all;
+            });
+        });
+    }
+
+    private Mono<List<GxUploadOutcome>> submit(final List<GxMaster> batch,
+                                               final List<GXDocumentUploadParameters> params) {
+        return gxApiClient.uploadDocumentsReactive(params).flatMap(response -> {
+            if (response.ingest() != null && response.ingest().processId() != null) {
+                final GxStatus status = GxStatus.convertByValue(response.ingest().status());
+                log.info("Initiated GX upload of {} document(s) in bucket {}. Process ID: {}, Status: {}",
+                         batch.size(), batch.getFirst().getGxBucketId(), response.ingest().processId(), status);
+                return Mono.just(batch.stream().map(gxMaster -> GxUploadOutcome.accepted(
+                        gxMaster.getId(), response.ingest().processId(), status)).toList());
+            }
+            final String rejection = StringUtils.hasText(response.message())
+                                     ? response.message()
+                                     : "Received an invalid or incomplete response from GX API.";
+            return reject(batch, params, rejection);
+        }).switchIfEmpty(Mono.defer(() -> reject(batch, params, "Received a null response from GX API.")))
+          .onErrorResume(ApiException.class, e -> {
+              if (ApiResilience.isRejectedWithoutProcessing(e)) {
+                  log.warn("GX is temporarily unavailable ({}). Returning {} document(s) starting with GxMaster ID {} "
+                           + "to the upload queue.", e.getMessage(), batch.size(), batch.getFirst().getId());
+                  return Mono.just(batch.stream().map(gxMaster -> GxUploadOutcome.released(gxMaster.getId()))
+                                        .toList());
+              }
+              if (ApiResilience.isTransientFailure(e)) {
+                  log.error("GX did not confirm the upload of {} document(s) starting with GxMaster ID {} ({}). They "
+                            + "may have been ingested, so they are not sent again automatically.", batch.size(),
+                            batch.getFirst().getId(), e.getMessage());
+                  return Mono.just(failAll(batch, "GX did not confirm the upload and may have ingested it: "
+                                                  + e.getMessage()));
+              }
+              if (BATCH_REJECTION_STATUS_CODES.contains(e.getStatusCode())) {
+                  return reject(batch, params, "API Error: " + e.getMessage());
+              }
+              log.error("API error while uploading {} document(s) starting with GxMaster ID {}: {}", batch.size(),
+                        batch.getFirst().getId(), e.getMessage(), e);
+              return Mono.just(failAll(batch, "API Error: " + e.getMessage()));
+          })
+          .onErrorResume(e -> !(e instanceof ApiException), e -> {
+              log.error("Unexpected error while uploading {} document(s) starting with GxMaster ID {}: {}",
+                        batch.size(), batch.getFirst().getId(), e.getMessage(), e);
+              return Mono.just(failAll(batch, "Unexpected Error: " + e.getMessage()));
+          });
+    }
+
+    /**
+     * Handles a batch GX refused as a whole: a single document is failed, a larger batch is split in half and each
+     * half is submitted again, one after the other.
+     */
+    private Mono<List<GxUploadOutcome>> reject(final List<GxMaster> batch,
+                                               final List<GXDocumentUploadParameters> params, final String rejection) {
+        if (batch.size() == 1) {
+            log.warn("GX rejected GxMaster ID {}: {}", batch.getFirst().getId(), rejection);
+            return Mono.just(List.of(GxUploadOutcome.failed(batch.getFirst().getId(), rejection)));
+        }
+
+        final int middle = batch.size() / 2;
+        log.warn("GX rejected a batch of {} document(s) starting with GxMaster ID {} ({}). Retrying as {} + {}.",
+                 batch.size(), batch.getFirst().getId(), rejection, middle, batch.size() - middle);
+        return Flux.concat(submit(batch.subList(0, middle), params.subList(0, middle)),
+                           submit(batch.subList(middle, batch.size()), params.subList(middle, params.size())))
+                   .flatMapIterable(Function.identity())
+                   .collectList();
+    }
+
+    private List<GxUploadOutcome> failAll(final List<GxMaster> batch, final String errorMessage) {
+        return batch.stream().map(gxMaster -> GxUploadOutcome.failed(gxMaster.getId(), errorMessage)).toList();
+    }
+}
@@ -0,0 +1,195 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.common.apiclient.gx.GXApiClient;
+import com.eyelevel.documentprocessor.exception.DocumentProcessingException;
+import com.eyelevel.documentprocessor.model.GxBucketRegistration;
+import com.eyelevel.documentprocessor.repository.GxBucketRegistrationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves GX bucket names to bucket IDs across jobs, creating a bucket in GX only the first time its name is seen.
+ * <p>
+ * Resolved names are kept in memory for {@code app.gx.bucket-registry.cache-ttl-minutes} and persisted in
+ * {@code gx_bucket_registry}. A name that is not registered yet is claimed with an insert that only one node can
+ * win; the winner creates the bucket and completes the claim, while other nodes poll the row until the bucket ID
+ * appears. A claim older than {@code claim-timeout-seconds} is considered abandoned and can be taken over. Its
+ * holder may have created the bucket in GX without registering it, so a node taking over a claim first looks the
+ * name up in GX and only creates the bucket if it is not there.
+ */
+@Slf4j
+@Service
+public class GxBucketRegistryService {
+
+    private static final int COMPLETE_CLAIM_RETRIES = 3;
+
+    private final GXApiClient gxApiClient;
+    private final GxBucketRegistrationRepository registrationRepository;
+    private final Duration cacheTtl;
+    private final Duration claimTimeout;
+    private final Duration waitInterval;
+    private final Map<String, CachedBucket> cache = new ConcurrentHashMap<>();
+
+    private record CachedBucket(Integer gxBucketId, Instant expiresAt) {
+    }
+
+    /**
+     * The state of a name after one pass of the claim protocol: either its bucket ID is known, or this node holds
+     * the claim under {@code claimToken}. Neither means another node is creating the bucket. {@code takenOver} is
+     * set when the claim was taken over from a stale holder.
+     */
+    private record Lookup(Integer gxBucketId, String claimToken, boolean takenOver) {
+    }
+
+    public GxBucketRegistryService(final GXApiClient gxApiClient,
+                                   final GxBucketRegistrationRepository registrationRepository,
+                                   @Value("${app.gx.bucket-registry.cache-ttl-minutes}") final long cacheTtlMinutes,
+                                   @Value("${app.gx.bucket-registry.claim-timeout-seconds}")
+                                   final long claimTimeoutSeconds,
+                                   @Value("${app.gx.bucket-registry.wait-interval-ms}") final long waitIntervalMs) {
+        this.gxApiClient = gxApiClient;
+        this.registrationRepository = registrationRepository;
+        this.cacheTtl = Duration.ofMinutes(cacheTtlMinutes);
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+        this.waitInterval = Duration.ofMillis(Math.max(1, waitIntervalMs));
+    }
+
+    /**
+     * Returns the ID of the GX bucket registered under the name, creating and registering it if needed. Nothing is
+     * done until the returned {@link Mono} is subscribed.
+     *
+     * @param bucketName The bucket name.
+     * @return A {@link Mono} emitting the bucket ID, or an error if the bucket could not be created or another
+     *         node's claim did not complete in time.
+     */
+    public Mono<Integer> resolveBucketId(final String bucketName) {
+        final Integer cached = getCached(bucketName);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        // Database access blocks, so every pass of the protocol runs on the bounded elastic scheduler.
+        final long maxWaits = Math.max(1, 2 * claimTimeout.toMillis() / waitInterval.toMillis());
+        return Mono.defer(() -> Mono.fromCallable(() -> lookupOrClaim(bucketName))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .flatMap(lookup -> complete(bucketName, lookup)))
+                   // Once the waits run out the result is still empty, which is the timeout reported below.
+                   .repeatWhenEmpty(waits -> waits.take(maxWaits).delayElements(waitInterval))
+                   .switchIfEmpty(Mono.error(() -> new DocumentProcessingException(
+                           "Timed out waiting for another node to create GX bucket '" + bucketName + "'.")))
+                   .doOnNext(gxBucketId -> putCached(bucketName, gxBucketId));
+    }
+
+    /**
+     * @return The known bucket ID, the bucket created under this node's claim, or empty to wait for another node.
+     */
+    private Mono<Integer> complete(final String bucketName, final Lookup lookup) {
+        if (lookup.gxBucketId() != null) {
+            return Mono.just(lookup.gxBucketId());
+        }
+        if (lookup.claimToken() != null) {
+            return createClaimed(bucketName, lookup.claimToken(), lookup.takenOver());
+        }
+        return Mono.empty();
+    }
+
+    private Lookup lookupOrClaim(final String bucketName) {
+        final GxBucketRegistration registration = registrationRepository.findById(bucketName).orElse(null);
+        if (registration != null && registration.getGxBucketId() != null) {
+            return new Lookup(registration.getGxBucketId(), null, false);
+        }
+
+        final String claimToken = UUID.randomUUID().toString();
+        final LocalDateTime now = LocalDateTime.now();
+        if (registration == null && registrationRepository.insertClaim(bucketName, claimToken, now) == 1) {
+            return new Lookup(null, claimToken, false);
+        }
+        if (registrationRepository.takeOverStaleClaim(bucketName, claimToken, now, now.minus(claimTimeout)) == 1) {
+            log.warn("Took over a stale claim on GX bucket name '{}'.", bucketName);
+            return new Lookup(null, claimToken, true);
+        }
+        log.debug("GX bucket '{}' is being created by another node. Waiting.", bucketName);
+        return new Lookup(null, null, false);
+    }
+
+    private Mono<Integer> createClaimed(final String bucketName, final String claimToken, final boolean takenOver) {
+        if (takenOver) {
+            // The stale holder may have created the bucket before failing to register it. On any error the claim is
+            // kept, so that the next takeover looks the name up again rather than a fresh claim creating it blindly.
+            return gxApiClient.findGXBucketIdByNameReactive(bucketName)
+                              .doOnNext(gxBucketId -> log.warn("Found GX bucket {} for name '{}' left unregistered by "
+                                                               + "a stale claim. Registering it.", gxBucketId,
+                                                               bucketName))
+                              .switchIfEmpty(Mono.defer(() -> createBucket(bucketName)))
+                              .flatMap(gxBucketId -> recordCreated(bucketName, claimToken, gxBucketId));
+        }
+        return createBucket(bucketName)
+                // Release the claim so that the next attempt, on any node, can create the bucket.
+                .onErrorResume(e -> Mono.fromRunnable(() -> registrationRepository.releaseClaim(bucketName, claimToken))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .then(Mono.error(e)))
+                .flatMap(gxBucketId -> recordCreated(bucketName, claimToken, gxBucketId));
+    }
+
+    private Mono<Integer> createBucket(final String bucketName) {
+        return gxApiClient.createGXBucketReactive(bucketName)
+                          .map(gxBucket -> gxBucket.bucket().bucketId())
+                          .switchIfEmpty(Mono.error(() -> new DocumentProcessingException(
+                                  "GX returned no bucket for name '" + bucketName + "'.")));
+    }
+
+    /**
+     * Completes the claim for a bucket that exists in GX. The claim is kept if this keeps failing: releasing it
+     * would let the next claimant create a second bucket under the same name, while a stale claim is taken over by a
+     * node that finds the bucket by name first.
+     */
+    private Mono<Integer> recordCreated(final String bucketName, final String claimToken, final Integer gxBucketId) {
+        return Mono.fromCallable(() -> completeClaim(bucketName, claimToken, gxBucketId))
+                   .subscribeOn(Schedulers.boundedElastic())
+                   .retryWhen(Retry.backoff(COMPLETE_CLAIM_RETRIES, waitInterval))
+                   .doOnError(e -> log.error("Could not register GX bucket {} for name '{}'. The claim is kept until "
+                                             + "it goes stale and the bucket is found by name.", gxBucketId,
+                                             bucketName, e));
+    }
+
+    private Integer completeClaim(final String bucketName, final String claimToken, final Integer gxBucketId) {
+        if (registrationRepository.completeClaim(bucketName, claimToken, gxBucketId, LocalDateTime.now()) == 1) {
+            log.info("Registered GX bucket {} under name '{}'.", gxBucketId, bucketName);
+            return gxBucketId;
+        }
+        // The claim went stale and was taken over while GX was creating the bucket.
+        final Integer registeredId = registrationRepository.findById(bucketName)
+                                                           .map(GxBucketRegistration::getGxBucketId)
+                                                           .orElse(null);
+        log.warn("Lost the claim on GX bucket name '{}' while creating bucket {}. Registered bucket: {}.", bucketName,
+                 gxBucketId, registeredId);
+        return registeredId != null ? registeredId : gxBucketId;
+    }
+
+    private Integer getCached(final String bucketName) {
+        final CachedBucket cached = cache.get(bucketName);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt().isBefore(Instant.now())) {
+            cache.remove(bucketName, cached);
+            return null;
+        }
+        return cached.gxBucketId();
+    }
+
+    private void putCached(final String bucketName, final Integer gxBucketId) {
+        cache.put(bucketName, new CachedBucket(gxBucketId, Instant.now().plus(cacheTtl)));
+    }
+}
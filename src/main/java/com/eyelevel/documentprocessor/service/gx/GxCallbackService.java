@@ -0,0 +1,69 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.dto.gx.uploadstatus.response.IngestResponse;
+import com.eyelevel.documentprocessor.exception.apiclient.BadRequestException;
+import com.eyelevel.documentprocessor.exception.apiclient.UnauthorizedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Handles ingest notifications that GX posts to the callback URL sent with each upload.
+ * <p>
+ * Callers are authenticated with a shared token compared in constant time. An authenticated notification is
+ * applied exactly like a polled status, so the two paths can run side by side and the poller only has to catch
+ * notifications that never arrive.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.gx.callback.enabled", havingValue = "true")
+public class GxCallbackService {
+
+    private final GxStatusSyncService statusSyncService;
+    private final byte[] expectedToken;
+
+    public GxCallbackService(final GxStatusSyncService statusSyncService,
+                             @Value("${app.gx.callback.url}") final String callbackUrl,
+                             @Value("${app.gx.callback.token}") final String token) {
+        // Without a URL no callback is ever requested, while polling would still wait for the reconciliation delay.
+        if (!StringUtils.hasText(callbackUrl)) {
+            throw new IllegalStateException("app.gx.callback.url must be set when GX callbacks are enabled.");
+        }
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalStateException("app.gx.callback.token must be set when GX callbacks are enabled.");
+        }
+        this.statusSyncService = statusSyncService;
+        this.expectedToken = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Verifies the caller and applies the ingest status it reports.
+     *
+     * @param token        The token presented by the caller.
+     * @param notification The ingest status, in the same shape as the status endpoint returns it.
+     *
+     * @return The number of records checked.
+     *
+     * @throws UnauthorizedException if the token is missing or wrong.
+     * @throws BadRequestException   if the notification carries no process ID.
+     */
+    public int handleIngestNotification(final String token, final IngestResponse notification) {
+        if (token == null || !MessageDigest.isEqual(expectedToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedException("Invalid or missing GX callback token.");
+        }
+        if (notification == null || notification.ingest() == null || notification.ingest().processId() == null) {
+            throw new BadRequestException("GX callback does not contain an ingest process ID.");
+        }
+
+        log.info("Received GX ingest callback for process ID: {}, status: {}", notification.ingest().processId(),
+                 notification.ingest().status());
+        return statusSyncService.applyProcessStatuses(
+                List.of(GxProcessStatus.fetched(notification.ingest().processId(), notification)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.model.GxMaster;
+import com.eyelevel.documentprocessor.repository.GxMasterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides when the GX status of a document should next be polled.
+ * <p>
+ * The first poll is scheduled at a fraction of the expected ingestion time, estimated from the file size and the
+ * average GX processing rate of recently completed documents. Every later poll waits {@code multiplier} times
+ * longer than the previous one, capped at {@code max-delay-seconds}. Delays are jittered so that documents
+ * submitted together do not keep getting polled together.
+ * <p>
+ * When GX reports completion through callbacks ({@code app.gx.callback.enabled}), polling only reconciles missed
+ * notifications, so every poll simply waits {@code app.gx.callback.reconciliation-delay-seconds}.
+ */
+@Slf4j
+@Component
+public class GxPollingPolicy {
+
+    private static final double BYTES_PER_MB = 1024d * 1024d;
+
+    private final GxMasterRepository gxMasterRepository;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final double firstPollFraction;
+    private final double defaultSecondsPerByte;
+    private final Duration historyWindow;
+    private final Duration historyRefreshInterval;
+    private final boolean callbackEnabled;
+    private final Duration reconciliationDelay;
+
+    private volatile double secondsPerByte;
+    private volatile LocalDateTime historyRefreshedAt;
+
+    public GxPollingPolicy(final GxMasterRepository gxMasterRepository,
+                           @Value("${app.gx.polling.min-delay-seconds}") final long minDelaySeconds,
+                           @Value("${app.gx.polling.max-delay-seconds}") final long maxDelaySeconds,
+                           @Value("${app.gx.polling.multiplier}") final double multiplier,
+                           @Value("${app.gx.polling.jitter}") final double jitter,
+                           @Value("${app.gx.polling.first-poll-fraction}") final double firstPollFraction,
+                           @Value("${app.gx.polling.default-seconds-per-mb}") final double defaultSecondsPerMb,
+                           @Value("${app.gx.polling.history-window-hours}") final long historyWindowHours,
+                           @Value("${app.gx.polling.history-refresh-minutes}") final long historyRefreshMinutes,
+                           @Value("${app.gx.callback.enabled}") final boolean callbackEnabled,
+                           @Value("${app.gx.callback.reconciliation-delay-seconds}")
+                           final long reconciliationDelaySeconds) {
+        this.gxMasterRepository = gxMasterRepository;
+        this.minDelay = Duration.ofSeconds(minDelaySeconds);
+        this.maxDelay = Duration.ofSeconds(Math.max(minDelaySeconds, maxDelaySeconds));
+        this.multiplier = Math.max(1d, multiplier);
+        this.jitter = Math.min(Math.max(0d, jitter), 1d);
+        this.firstPollFraction = firstPollFraction;
+        this.defaultSecondsPerByte = defaultSecondsPerMb / BYTES_PER_MB;
+        this.historyWindow = Duration.ofHours(historyWindowHours);
+        this.historyRefreshInterval = Duration.ofMinutes(historyRefreshMinutes);
+        this.secondsPerByte = defaultSecondsPerByte;
+        this.callbackEnabled = callbackEnabled;
+        this.reconciliationDelay = Duration.ofSeconds(reconciliationDelaySeconds);
+    }
+
+    /**
+     * Schedules the first poll of a document that GX has just accepted and resets its poll counter.
+     */
+    public void scheduleFirstPoll(final GxMaster gxMaster, final LocalDateTime now) {
+        gxMaster.setPollAttempts(0);
+        gxMaster.setNextPollAt(now.plus(jittered(callbackEnabled ? reconciliationDelay : initialDelay(gxMaster))));
+    }
+
+    /**
+     * Schedules the next poll of a document that is still being ingested after another unsuccessful check.
+     */
+    public void scheduleNextPoll(final GxMaster gxMaster, final LocalDateTime now) {
+        final int attempts = gxMaster.getPollAttempts() + 1;
+        gxMaster.setPollAttempts(attempts);
+        if (callbackEnabled) {
+            gxMaster.setNextPollAt(now.plus(jittered(reconciliationDelay)));
+            return;
+        }
+        final double backoff = Math.pow(multiplier, Math.min(attempts, 32));
+        final long delayMillis = (long) Math.min(initialDelay(gxMaster).toMillis() * backoff, maxDelay.toMillis());
+        gxMaster.setNextPollAt(now.plus(jittered(Duration.ofMillis(delayMillis))));
+    }
+
+    private Duration initialDelay(final GxMaster gxMaster) {
+        final long fileSize = gxMaster.getFileSize() == null ? 0 : gxMaster.getFileSize();
+        final double expectedSeconds = fileSize * currentSecondsPerByte();
+        final Duration delay = Duration.ofMillis((long) (expectedSeconds * firstPollFraction * 1000));
+        return delay.compareTo(minDelay) < 0 ? minDelay : delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+
+    private Duration jittered(final Duration delay) {
+        if (jitter == 0) {
+            return delay;
+        }
+        final double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Duration.ofMillis((long) (delay.toMillis() * factor));
+    }
+
+    /**
+     * The observed GX processing rate, refreshed from recently completed documents at most once per
+     * {@code history-refresh-minutes}. Falls back to {@code default-seconds-per-mb} without history.
+     */
+    private double currentSecondsPerByte() {
+        final LocalDateTime now = LocalDateTime.now();
+        if (historyRefreshedAt == null || historyRefreshedAt.plus(historyRefreshInterval).isBefore(now)) {
+            historyRefreshedAt = now;
+            try {
+                final Double observed = gxMasterRepository.findSecondsPerByteCompletedSince(now.minus(historyWindow));
+                secondsPerByte = observed == null || observed <= 0 ? defaultSecondsPerByte : observed;
+                log.debug("GX processing rate estimate refreshed: {} s/MB.", secondsPerByte * BYTES_PER_MB);
+            } catch (final Exception e) {
+                log.warn("Could not refresh the GX processing rate estimate. Keeping {} s/MB.",
+                         secondsPerByte * BYTES_PER_MB, e);
+            }
+        }
+        return secondsPerByte;
+    }
+}
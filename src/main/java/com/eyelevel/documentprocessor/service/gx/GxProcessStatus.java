@@ -0,0 +1,26 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.dto.gx.uploadstatus.response.IngestResponse;
+import jakarta.annotation.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The status of one GX ingest process as fetched from the API, or the reason it could not be fetched.
+ *
+ * @param processId        The GX process whose status was fetched.
+ * @param response         The ingest response, present only when the fetch succeeded.
+ * @param failureMessage   The fetch failure, present only when the fetch failed.
+ * @param transientFailure Whether the fetch failed only because GX was temporarily unavailable.
+ */
+public record GxProcessStatus(UUID processId, @Nullable IngestResponse response, @Nullable String failureMessage,
+                              boolean transientFailure) {
+
+    public static GxProcessStatus fetched(UUID processId, IngestResponse response) {
+        return new GxProcessStatus(processId, response, null, false);
+    }
+
+    public static GxProcessStatus failed(UUID processId, String failureMessage, boolean transientFailure) {
+        return new GxProcessStatus(processId, null, failureMessage, transientFailure);
+    }
+}
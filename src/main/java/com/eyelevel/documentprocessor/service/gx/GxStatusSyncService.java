@@ -0,0 +1,143 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.dto.gx.uploadstatus.response.IngestResponse;
+import com.eyelevel.documentprocessor.model.GxMaster;
+import com.eyelevel.documentprocessor.model.GxStatus;
+import com.eyelevel.documentprocessor.repository.GxMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Applies GX ingest process statuses to the {@link GxMaster} records they cover.
+ * <p>
+ * A process started by a multi-document upload covers several records, so each ingest response is fanned out to
+ * every active record with that process ID, matching on the file name. Each call runs in its own short
+ * transaction that loads only the records of the given processes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GxStatusSyncService {
+
+    public static final List<GxStatus> ACTIVE_STATUSES = List.of(GxStatus.QUEUED, GxStatus.PROCESSING);
+
+    private final GxMasterRepository gxMasterRepository;
+    private final GxPollingPolicy pollingPolicy;
+
+    /**
+     * Updates the active records of every given process from its fetched status. Records of a process whose status
+     * could not be fetched are marked as {@link GxStatus#ERROR}, unless GX was only temporarily unavailable.
+     * Records that are still being ingested afterwards are scheduled for their next poll; the others are stamped
+     * with their completion time.
+     *
+     * @return The number of records checked.
+     */
+    @Transactional
+    public int applyProcessStatuses(final List<GxProcessStatus> processStatuses) {
+        final Map<UUID, GxProcessStatus> statusesByProcessId = processStatuses.stream().collect(
+                Collectors.toMap(GxProcessStatus::processId, Function.identity()));
+        final Map<UUID, List<GxMaster>> mastersByProcessId = gxMasterRepository
+                .findAllByGxProcessIdInAndGxStatusIn(statusesByProcessId.keySet(), ACTIVE_STATUSES).stream()
+                .collect(Collectors.groupingBy(GxMaster::getGxProcessId, LinkedHashMap::new, Collectors.toList()));
+
+        final LocalDateTime now = LocalDateTime.now();
+        final List<GxMaster> mastersToUpdate = new ArrayList<>();
+        mastersByProcessId.forEach((processId, processMasters) -> {
+            final GxProcessStatus processStatus = statusesByProcessId.get(processId);
+            if (processStatus.response() == null && processStatus.transientFailure()) {
+                log.warn("GX was temporarily unavailable for process ID: {} ({}). Checking again later.", processId,
+                         processStatus.failureMessage());
+            } else if (processStatus.response() == null) {
+                log.error("Failed to fetch status for process ID: {}. Marking {} document(s) as ERROR.", processId,
+                          processMasters.size());
+                for (final GxMaster gxMaster : processMasters) {
+                    gxMaster.setGxStatus(GxStatus.ERROR);
+                    gxMaster.setErrorMessage("Failed to retrieve status from GX: " + processStatus.failureMessage());
+                }
+            } else {
+                fanOut(processStatus.response(), processMasters);
+            }
+            processMasters.forEach(gxMaster -> reschedule(gxMaster, now));
+            mastersToUpdate.addAll(processMasters);
+        });
+
+        gxMasterRepository.saveAll(mastersToUpdate);
+        return mastersToUpdate.size();
+    }
+
+    private void reschedule(final GxMaster gxMaster, final LocalDateTime now) {
+        if (ACTIVE_STATUSES.contains(gxMaster.getGxStatus())) {
+            pollingPolicy.scheduleNextPoll(gxMaster, now);
+        } else {
+            gxMaster.setNextPollAt(null);
+            gxMaster.setGxCompletedAt(now);
+        }
+    }
+
+    /**
+     * Updates each record from the document with its file name in the ingest response. A record that is the only
+     * one in its process falls back to the first listed document when no file name matches.
+     */
+    private void fanOut(final IngestResponse ingestResponse, final List<GxMaster> processMasters) {
+        final List<IngestResponse.Document> documentsByFinality = documentsByFinality(ingestResponse);
+        // The first occurrence wins, so a document listed as both complete and processing counts as complete.
+        final Map<String, IngestResponse.Document> documentsByFileName = documentsByFinality.stream()
+                .filter(document -> document.fileName() != null)
+                .collect(Collectors.toMap(IngestResponse.Document::fileName, Function.identity(),
+                                          (first, second) -> first));
+
+        for (final GxMaster gxMaster : processMasters) {
+            Optional<IngestResponse.Document> document = Optional.ofNullable(
+                    documentsByFileName.get(gxMaster.getProcessedFileName()));
+            if (document.isEmpty() && processMasters.size() == 1) {
+                document = documentsByFinality.stream().findFirst();
+            }
+            document.ifPresentOrElse(documentDetails -> updateMasterFromDocumentDetails(gxMaster, documentDetails),
+                                     () -> log.warn("Could not find document details in GX response for "
+                                                    + "GxMaster ID: {}, process ID: {}", gxMaster.getId(),
+                                                    gxMaster.getGxProcessId()));
+        }
+    }
+
+    /**
+     * Lists the documents of the response in order of finality: complete, errors, cancelled, and finally
+     * processing.
+     */
+    private List<IngestResponse.Document> documentsByFinality(final IngestResponse ingestResponse) {
+        if (ingestResponse.ingest() == null || ingestResponse.ingest().progress() == null) {
+            return List.of();
+        }
+        final IngestResponse.Progress progress = ingestResponse.ingest().progress();
+        return Stream.of(progress.complete(), progress.errors(), progress.cancelled(), progress.processing())
+                     .filter(Objects::nonNull)
+                     .filter(category -> !CollectionUtils.isEmpty(category.documents()))
+                     .flatMap(category -> category.documents().stream())
+                     .toList();
+    }
+
+    private void updateMasterFromDocumentDetails(final GxMaster gxMaster, final IngestResponse.Document document) {
+        final GxStatus newStatus = GxStatus.convertByValue(document.status());
+        gxMaster.setGxStatus(newStatus);
+        if (StringUtils.hasText(document.statusMessage())) {
+            gxMaster.setErrorMessage(document.statusMessage());
+        }
+        log.info("Updating GxMaster ID: {}. New status: {}, Message: '{}'", gxMaster.getId(), newStatus,
+                 gxMaster.getErrorMessage());
+    }
+}
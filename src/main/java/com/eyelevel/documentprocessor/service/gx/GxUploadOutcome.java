@@ -0,0 +1,44 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.model.GxMaster;
+import com.eyelevel.documentprocessor.model.GxStatus;
+import jakarta.annotation.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The result of submitting a single {@link GxMaster} to GX, captured outside of any transaction and applied to
+ * the entity afterwards.
+ *
+ * @param processId    The GX process ID, present only when the submission was accepted.
+ * @param errorMessage The failure reason, present only when {@code status} is {@link GxStatus#ERROR}.
+ */
+public record GxUploadOutcome(Long gxMasterId, GxStatus status, @Nullable UUID processId,
+                              @Nullable String errorMessage) {
+
+    public static GxUploadOutcome accepted(Long gxMasterId, UUID processId, GxStatus status) {
+        return new GxUploadOutcome(gxMasterId, status, processId, null);
+    }
+
+    /**
+     * The document was not submitted because GX is temporarily unavailable; it goes back to the upload queue.
+     */
+    public static GxUploadOutcome released(Long gxMasterId) {
+        return new GxUploadOutcome(gxMasterId, GxStatus.QUEUED_FOR_UPLOAD, null, null);
+    }
+
+    public static GxUploadOutcome failed(Long gxMasterId, String errorMessage) {
+        return new GxUploadOutcome(gxMasterId, GxStatus.ERROR, null, errorMessage);
+    }
+
+    void applyTo(GxMaster gxMaster) {
+        gxMaster.setGxStatus(status);
+        gxMaster.setUploadClaimedAt(null);
+        if (processId != null) {
+            gxMaster.setGxProcessId(processId);
+        }
+        if (errorMessage != null) {
+            gxMaster.setErrorMessage(errorMessage);
+        }
+    }
+}
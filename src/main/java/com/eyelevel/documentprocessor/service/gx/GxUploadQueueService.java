@@ -0,0 +1,103 @@
+package com.eyelevel.documentprocessor.service.gx;
+
+import com.eyelevel.documentprocessor.model.GxMaster;
+import com.eyelevel.documentprocessor.model.GxStatus;
+import com.eyelevel.documentprocessor.repository.GxMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Hands out documents queued for GX upload and records the results, each in its own short transaction so that
+ * no database connection is held while the GX API is being called.
+ * <p>
+ * Claimed rows move to {@link GxStatus#UPLOADING}. Claims are taken with {@code FOR UPDATE SKIP LOCKED}, so
+ * several application instances can drain the queue without picking the same document. A claim that is never
+ * resolved, e.g. because the instance holding it stopped after GX accepted the upload, is failed once it is older
+ * than the configured timeout. GX may already have ingested the document, so it is never sent again blindly.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GxUploadQueueService {
+
+    private static final String STALE_CLAIM_MESSAGE = "GX upload outcome unknown: the upload claim expired before "
+                                                      + "its result was recorded. GX may have ingested the document.";
+
+    private final GxMasterRepository gxMasterRepository;
+    private final GxPollingPolicy pollingPolicy;
+
+    /**
+     * Moves claims older than {@code claimTimeout} to {@link GxStatus#ERROR} with an "upload outcome unknown"
+     * message. Whether GX received them cannot be told, so re-uploading them could ingest a document twice.
+     *
+     * @return The number of failed claims.
+     */
+    @Transactional
+    public int failStaleClaims(final Duration claimTimeout) {
+        final int failed = gxMasterRepository.failStaleUploadClaims(GxStatus.UPLOADING, GxStatus.ERROR,
+                                                                    STALE_CLAIM_MESSAGE,
+                                                                    LocalDateTime.now().minus(claimTimeout));
+        if (failed > 0) {
+            log.warn("Failed {} GX upload claim(s) older than {}: their upload outcome is unknown.", failed,
+                     claimTimeout);
+        }
+        return failed;
+    }
+
+    /**
+     * Claims up to {@code limit} of the oldest documents queued for upload.
+     *
+     * @return The claimed records, oldest first. They are detached once this method returns.
+     */
+    @Transactional
+    public List<GxMaster> claimBatch(final int limit) {
+        final List<Long> ids = gxMasterRepository.findIdsToClaimForUpload(limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        gxMasterRepository.markClaimedForUpload(ids, GxStatus.UPLOADING, LocalDateTime.now());
+        return gxMasterRepository.findAllById(ids).stream().sorted(Comparator.comparing(GxMaster::getCreatedAt))
+                                 .toList();
+    }
+
+    /**
+     * Applies the upload outcomes to their records. Records that left {@link GxStatus#UPLOADING} while the upload
+     * was in flight (for example because their job was terminated) are left untouched. The records are locked
+     * while the outcomes are applied, so a termination committed in the meantime cannot be overwritten.
+     */
+    @Transactional
+    public void applyResults(final List<GxUploadOutcome> outcomes) {
+        final Map<Long, GxUploadOutcome> outcomesById = outcomes.stream().collect(
+                Collectors.toMap(GxUploadOutcome::gxMasterId, Function.identity()));
+        final List<GxMaster> gxMasters = gxMasterRepository.findByIdIn(outcomesById.keySet());
+        final List<GxMaster> updated = new ArrayList<>(gxMasters.size());
+        final LocalDateTime now = LocalDateTime.now();
+
+        for (final GxMaster gxMaster : gxMasters) {
+            if (gxMaster.getGxStatus() != GxStatus.UPLOADING) {
+                log.warn("GxMaster ID {} moved to {} while its upload was in flight. Discarding the upload result.",
+                         gxMaster.getId(), gxMaster.getGxStatus());
+                continue;
+            }
+            outcomesById.get(gxMaster.getId()).applyTo(gxMaster);
+            if (GxStatusSyncService.ACTIVE_STATUSES.contains(gxMaster.getGxStatus())) {
+                gxMaster.setGxSubmittedAt(now);
+                gxMaster.setGxCompletedAt(null);
+                pollingPolicy.scheduleFirstPoll(gxMaster, now);
+            }
+            updated.add(gxMaster);
+        }
+        gxMasterRepository.saveAll(updated);
+    }
+}
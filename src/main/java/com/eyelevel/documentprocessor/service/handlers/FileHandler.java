@@ -4,8 +4,11 @@ import com.eyelevel.documentprocessor.model.ExtractedFileItem;
 import com.eyelevel.documentprocessor.model.FileMaster;
 import org.jodconverter.core.office.OfficeException;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -38,4 +41,21 @@ public interface FileHandler {
      * - If no transformation or extraction occurred (e.g., a simple optimization), the list will be empty.
      */
     List<ExtractedFileItem> handle(InputStream inputStream, FileMaster context) throws IOException, OfficeException;
-}
\ No newline at end of file
+
+    /**
+     * Processes a file that is already stored locally.
+     * <p>
+     * By default the file is streamed to {@link #handle(InputStream, FileMaster)}. Handlers that need random
+     * access to the content can override this to read the file in place instead of buffering the stream.
+     *
+     * @param sourceFile The local copy of the file.
+     * @param context    The database entity representing the file being processed, providing job context.
+     *
+     * @return A list of {@link ExtractedFileItem} objects, as for {@link #handle(InputStream, FileMaster)}.
+     */
+    default List<ExtractedFileItem> handle(Path sourceFile, FileMaster context) throws IOException, OfficeException {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(sourceFile))) {
+            return handle(inputStream, context);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.eyelevel.documentprocessor.service.handlers.impl.libreoffice;
 
 import com.eyelevel.documentprocessor.exception.FileConversionException;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jodconverter.core.office.OfficeException;
@@ -12,6 +13,7 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
+import java.util.Map;
 
 @Service
 @Slf4j
@@ -22,17 +24,29 @@ public class LibreOfficeConverterService {
 
     /**
      * Converts a source file to a target PDF file using a managed LibreOffice process.
+     *
+     * @param inputFile   The source document.
+     * @param outputFile  The PDF file to write.
+     * @param filterData  Optional PDF export filter options (e.g. {@code PageRange}); {@code null} exports
+     *                    the whole document with the default options.
+     * @param contextInfo A string for logging.
      */
     @Retryable(retryFor = {OfficeException.class, FileConversionException.class},
                maxAttemptsExpression = "#{${app.processing.libreoffice.retry.attempts} + 1}",
                backoff = @Backoff(delayExpression = "#{${app.processing.libreoffice.retry.delay-ms}}"),
                listeners = {"libreOfficeRetryListener"})
-    public void convertToPdf(File inputFile, File outputFile, String contextInfo) throws FileConversionException {
-        log.info("[{}] Attempting LibreOffice conversion for '{}'.", contextInfo, inputFile.getName());
+    public void convertToPdf(File inputFile, File outputFile, @Nullable Map<String, Object> filterData,
+                             String contextInfo) throws FileConversionException {
+        log.info("[{}] Attempting LibreOffice conversion for '{}'{}.", contextInfo, inputFile.getName(),
+                 filterData == null ? "" : " with filter options " + filterData);
 
         try {
             // Use LocalConverter with the injected OfficeManager
-            LocalConverter.make(officeManager).convert(inputFile).to(outputFile).execute();
+            LocalConverter converter = filterData == null
+                                       ? LocalConverter.make(officeManager)
+                                       : LocalConverter.builder().officeManager(officeManager)
+                                                       .storeProperties(Map.of("FilterData", filterData)).build();
+            converter.convert(inputFile).to(outputFile).execute();
 
             if (!outputFile.exists() || outputFile.length() == 0) {
                 log.error("[{}] Conversion resulted in a missing or empty file for '{}'.", contextInfo,
@@ -48,7 +62,8 @@ public class LibreOfficeConverterService {
     }
 
     @Recover
-    public void recover(Exception e, File inputFile, File outputFile, String contextInfo)
+    public void recover(Exception e, File inputFile, File outputFile, Map<String, Object> filterData,
+                        String contextInfo)
     throws FileConversionException {
         String errorMessage = String.format("LibreOffice conversion failed for '%s' after all retry attempts.",
                                             inputFile.getName());
@@ -5,11 +5,11 @@ import com.eyelevel.documentprocessor.exception.FileConversionException;
 import com.eyelevel.documentprocessor.model.ExtractedFileItem;
 import com.eyelevel.documentprocessor.model.FileMaster;
 import com.eyelevel.documentprocessor.service.handlers.FileHandler;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.jodconverter.core.office.OfficeException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
@@ -18,16 +18,36 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class LibreOfficeHandler implements FileHandler {
 
     private final DocumentProcessingConfig config;
     private final LibreOfficeConverterService converterService;
+    private final OfficeDocumentInspector documentInspector;
+    private final int officePoolSize;
+
+    private record PageRange(int part, int startPage, int endPage) {
+    }
+
+    public LibreOfficeHandler(DocumentProcessingConfig config, LibreOfficeConverterService converterService,
+                              OfficeDocumentInspector documentInspector,
+                              @Value("${app.jodconverter.office.port-numbers}") int[] portNumbers) {
+        this.config = config;
+        this.converterService = converterService;
+        this.documentInspector = documentInspector;
+        this.officePoolSize = Math.max(1, portNumbers.length);
+    }
 
     @Override
     public boolean supports(String extension) {
@@ -52,12 +72,17 @@ public class LibreOfficeHandler implements FileHandler {
             File inputFile = taskTempDir.resolve(fileName).toFile();
             Files.copy(inputStream, inputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
 
+            List<PageRange> ranges = planPageRanges(inputFile, contextInfo);
+            if (!ranges.isEmpty()) {
+                return convertRangesInParallel(inputFile, ranges, taskTempDir, contextInfo);
+            }
+
             String pdfFileName = FilenameUtils.getBaseName(fileName) + ".pdf";
             File outputFile = taskTempDir.resolve(pdfFileName).toFile();
 
             log.debug("[{}] Delegating conversion for '{}' to retryable service.", contextInfo, inputFile.getName());
 
-            converterService.convertToPdf(inputFile, outputFile, contextInfo);
+            converterService.convertToPdf(inputFile, outputFile, null, contextInfo);
 
             log.info("[{}] Successfully converted file. Reading PDF bytes.", fileName);
             byte[] pdfBytes = Files.readAllBytes(outputFile.toPath());
@@ -69,4 +94,105 @@ public class LibreOfficeHandler implements FileHandler {
             FileUtils.deleteDirectory(taskTempDir.toFile());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Splits a large presentation or workbook into page ranges of at most {@code max-pages} slides/sheets,
+     * so every resulting PDF already satisfies the page limit enforced downstream by the PDF handler.
+     *
+     * @return The planned ranges, or an empty list if the document should be converted in a single call.
+     */
+    private List<PageRange> planPageRanges(File inputFile, String contextInfo) {
+        DocumentProcessingConfig.LibreOffice.RangeConversion rangeConfig =
+                config.getLibreoffice().getRangeConversion();
+        String extension = FilenameUtils.getExtension(inputFile.getName()).toLowerCase();
+
+        if (!rangeConfig.isEnabled() || !rangeConfig.getExtensions().contains(extension)
+            || inputFile.length() < rangeConfig.getMinFileSize()) {
+            return Collections.emptyList();
+        }
+
+        int totalUnits = documentInspector.countRenderableUnits(inputFile, extension);
+        int unitsPerRange = config.getMaxPages();
+        if (totalUnits <= unitsPerRange) {
+            log.debug("[{}] '{}' has {} slide(s)/sheet(s); converting in a single call.", contextInfo,
+                      inputFile.getName(), totalUnits);
+            return Collections.emptyList();
+        }
+
+        List<PageRange> ranges = new ArrayList<>();
+        int part = 1;
+        for (int startPage = 1; startPage <= totalUnits; startPage += unitsPerRange) {
+            ranges.add(new PageRange(part++, startPage, Math.min(startPage + unitsPerRange - 1, totalUnits)));
+        }
+        log.info("[{}] '{}' has {} slide(s)/sheet(s). Converting as {} page range(s) across {} office process(es).",
+                 contextInfo, inputFile.getName(), totalUnits, ranges.size(), officePoolSize);
+        return ranges;
+    }
+
+    private List<ExtractedFileItem> convertRangesInParallel(File inputFile, List<PageRange> ranges, Path taskTempDir,
+                                                            String contextInfo)
+    throws IOException, FileConversionException {
+        String baseName = FilenameUtils.getBaseName(inputFile.getName());
+        boolean isSpreadsheet = "xlsx".equalsIgnoreCase(FilenameUtils.getExtension(inputFile.getName()));
+        // Bound in-flight conversions to the pool size so queued tasks do not hit the JOD queue timeout.
+        Semaphore semaphore = new Semaphore(officePoolSize);
+        List<Future<File>> futures = new ArrayList<>(ranges.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (PageRange range : ranges) {
+                futures.add(executor.submit(() -> {
+                    semaphore.acquire();
+                    try {
+                        File outputFile = taskTempDir.resolve(String.format("%s_part%d.pdf", baseName, range.part()))
+                                                     .toFile();
+                        String rangeContext = String.format("%s, Pages: %d-%d", contextInfo, range.startPage(),
+                                                            range.endPage());
+                        converterService.convertToPdf(inputFile, outputFile, buildFilterData(range, isSpreadsheet),
+                                                      rangeContext);
+                        return outputFile;
+                    } finally {
+                        semaphore.release();
+                    }
+                }));
+            }
+
+            try {
+                List<ExtractedFileItem> items = new ArrayList<>(ranges.size());
+                for (Future<File> future : futures) {
+                    File outputFile = awaitRange(future, inputFile, contextInfo);
+                    items.add(new ExtractedFileItem(outputFile.getName(), Files.readAllBytes(outputFile.toPath())));
+                }
+                log.info("[{}] Successfully converted '{}' into {} PDF part(s).", contextInfo, inputFile.getName(),
+                         items.size());
+                return items;
+            } finally {
+                // On failure, stop the remaining ranges instead of waiting for them when the executor closes.
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private File awaitRange(Future<File> future, File inputFile, String contextInfo) throws FileConversionException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileConversionException("Interrupted while converting page ranges of: " + inputFile.getName(),
+                                              e);
+        } catch (ExecutionException e) {
+            log.error("[{}] Page-range conversion failed for '{}'.", contextInfo, inputFile.getName(), e.getCause());
+            if (e.getCause() instanceof FileConversionException fce) {
+                throw fce;
+            }
+            throw new FileConversionException("Page-range conversion failed for: " + inputFile.getName(),
+                                              e.getCause());
+        }
+    }
+
+    private Map<String, Object> buildFilterData(PageRange range, boolean isSpreadsheet) {
+        String pageRange = range.startPage() + "-" + range.endPage();
+        // Exporting each sheet as a single page keeps the sheet index and the PDF page index aligned.
+        return isSpreadsheet ? Map.of("PageRange", pageRange, "SinglePageSheets", true)
+                             : Map.of("PageRange", pageRange);
+    }
+}
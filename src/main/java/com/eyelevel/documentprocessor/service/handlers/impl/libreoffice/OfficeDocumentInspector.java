@@ -0,0 +1,87 @@
+package com.eyelevel.documentprocessor.service.handlers.impl.libreoffice;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Reads the OOXML package structure of a presentation or workbook to determine how many visible
+ * slides or sheets it contains, without starting LibreOffice. The count is used to plan page-range
+ * conversions where each slide (or sheet, exported as a single page) maps to exactly one PDF page.
+ */
+@Slf4j
+@Component
+public class OfficeDocumentInspector {
+
+    private static final Pattern SLIDE_ENTRY_PATTERN = Pattern.compile("ppt/slides/slide\\d+\\.xml");
+    private static final Pattern HIDDEN_SLIDE_PATTERN = Pattern.compile("<p:sld\\s[^>]*\\sshow=\"(?:0|false)\"");
+    private static final int SLIDE_ROOT_PEEK_BYTES = 2048;
+    private static final Pattern SHEET_ELEMENT_PATTERN = Pattern.compile("<(?:\\w+:)?sheet\\s[^>]*>");
+    private static final Pattern HIDDEN_STATE_PATTERN = Pattern.compile("\\sstate=\"(?:hidden|veryHidden)\"");
+    private static final String WORKBOOK_ENTRY = "xl/workbook.xml";
+
+    /**
+     * Counts the renderable units of the document: visible slides for {@code pptx}, visible sheets for
+     * {@code xlsx}. Hidden units are excluded because LibreOffice does not export them by default.
+     *
+     * @param file      The OOXML document on local disk.
+     * @param extension The lower-case file extension.
+     *
+     * @return The number of units, or {@code 0} if the format is unsupported or the package cannot be read.
+     */
+    public int countRenderableUnits(File file, String extension) {
+        try (ZipFile zipFile = new ZipFile(file)) {
+            return switch (extension) {
+                case "pptx" -> countSlides(zipFile);
+                case "xlsx" -> countVisibleSheets(zipFile);
+                default -> 0;
+            };
+        } catch (IOException e) {
+            log.warn("Could not inspect the package structure of '{}'. Range conversion will not be used.",
+                     file.getName(), e);
+            return 0;
+        }
+    }
+
+    private int countSlides(ZipFile zipFile) throws IOException {
+        int visibleSlides = 0;
+        for (ZipEntry entry : zipFile.stream().filter(e -> SLIDE_ENTRY_PATTERN.matcher(e.getName()).matches())
+                                     .toList()) {
+            try (InputStream in = zipFile.getInputStream(entry)) {
+                // The "show" attribute lives on the root element, so only the head of the part is needed.
+                String slideHead = new String(in.readNBytes(SLIDE_ROOT_PEEK_BYTES), StandardCharsets.UTF_8);
+                if (!HIDDEN_SLIDE_PATTERN.matcher(slideHead).find()) {
+                    visibleSlides++;
+                }
+            }
+        }
+        return visibleSlides;
+    }
+
+    private int countVisibleSheets(ZipFile zipFile) throws IOException {
+        ZipEntry workbookEntry = zipFile.getEntry(WORKBOOK_ENTRY);
+        if (workbookEntry == null) {
+            return 0;
+        }
+        String workbookXml;
+        try (InputStream in = zipFile.getInputStream(workbookEntry)) {
+            workbookXml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        int visibleSheets = 0;
+        Matcher matcher = SHEET_ELEMENT_PATTERN.matcher(workbookXml);
+        while (matcher.find()) {
+            if (!HIDDEN_STATE_PATTERN.matcher(matcher.group()).find()) {
+                visibleSheets++;
+            }
+        }
+        return visibleSheets;
+    }
+}
@@ -5,11 +5,16 @@ import com.eyelevel.documentprocessor.exception.FileConversionException;
 import com.eyelevel.documentprocessor.exception.FileProtectedException;
 import com.eyelevel.documentprocessor.model.ExtractedFileItem;
 import com.eyelevel.documentprocessor.model.FileMaster;
+import com.eyelevel.documentprocessor.model.PdfProcessingCheckpoint;
 import com.eyelevel.documentprocessor.service.handlers.FileHandler;
+import com.eyelevel.documentprocessor.service.handlers.impl.pdfhandler.checkpoint.PdfCheckpointService;
 import com.eyelevel.documentprocessor.service.handlers.impl.pdfhandler.optimizer.PdfOptimizer;
 import com.eyelevel.documentprocessor.service.handlers.impl.pdfhandler.splitter.PdfSplitter;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.RandomAccessFileOrArray;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +26,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -29,12 +35,14 @@ public class PdfHandler implements FileHandler {
     private final DocumentProcessingConfig config;
     private final PdfOptimizer optimizer;
     private final PdfSplitter splitter;
+    private final PdfCheckpointService checkpointService;
 
     public PdfHandler(DocumentProcessingConfig config, @Qualifier("pdfOptimizer") PdfOptimizer optimizer,
-                      @Qualifier("qpdfSplitter") PdfSplitter splitter) {
+                      @Qualifier("qpdfSplitter") PdfSplitter splitter, PdfCheckpointService checkpointService) {
         this.config = config;
         this.optimizer = optimizer;
         this.splitter = splitter;
+        this.checkpointService = checkpointService;
     }
 
     @Override
@@ -42,24 +50,64 @@ public class PdfHandler implements FileHandler {
         return "pdf".equalsIgnoreCase(extension);
     }
 
+    /**
+     * Spools the stream to a temporary file and processes it with {@link #handle(Path, FileMaster)}.
+     */
     @Override
     public List<ExtractedFileItem> handle(InputStream inputStream, FileMaster context) throws FileConversionException {
+        Path sourceFile = null;
+        try {
+            sourceFile = Files.createTempFile("pdf-source-" + context.getId() + "-", ".pdf");
+            Files.copy(inputStream, sourceFile, StandardCopyOption.REPLACE_EXISTING);
+            return handle(sourceFile, context);
+        } catch (IOException e) {
+            throw new FileConversionException("Failed to buffer the PDF: " + e.getMessage(), e);
+        } finally {
+            if (sourceFile != null) {
+                FileUtils.deleteQuietly(sourceFile.toFile());
+            }
+        }
+    }
+
+    /**
+     * Processes the PDF in place. The passthrough check reads only the cross-reference table and trailer of the
+     * local file, so a small PDF that qualifies is neither copied nor loaded onto the heap.
+     */
+    @Override
+    public List<ExtractedFileItem> handle(Path sourceFile, FileMaster context) throws FileConversionException {
         final String contextInfo = String.format("JobId: %d, FileMasterId: %d", context.getProcessingJob().getId(),
                                                  context.getId());
         Path tempDir = null;
         try {
+            if (isWithinFastPathSize(context) && qualifiesForPassthrough(sourceFile, contextInfo)) {
+                // An empty result tells the pipeline to send the source object to GX unchanged.
+                return List.of();
+            }
+
             tempDir = Files.createTempDirectory("pdf-handler-" + context.getId() + "-");
             File workingFile = tempDir.resolve(context.getFileName()).toFile();
-            Files.copy(inputStream, workingFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            Optional<PdfProcessingCheckpoint> checkpoint =
+                    checkpointService.findUsableCheckpoint(context, config.getMaxPages());
+            if (checkpoint.isPresent()) {
+                log.info("[{}] Resuming from checkpoint: optimization done, {} of {} chunk(s) already split.",
+                         contextInfo, checkpoint.get().getCompletedChunks(), countChunks(checkpoint.get()));
+                checkpointService.downloadOptimizedFile(checkpoint.get(), workingFile);
+                return splitWithCheckpoints(workingFile, checkpoint.get(), context, contextInfo);
+            }
+
+            Files.copy(sourceFile, workingFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
 
             log.info("[{}] Using '{}' for PDF optimization.", contextInfo, optimizer.getStrategyName());
             workingFile = optimizer.optimize(workingFile, contextInfo);
 
-            if (shouldSplit(workingFile, contextInfo)) {
-                log.info("[{}] File '{}' requires splitting. Using '{}' strategy.", contextInfo, workingFile.getName(),
-                         splitter.getStrategyName());
-                List<File> splitFiles = splitter.split(workingFile, config.getMaxPages(), contextInfo);
-                return createExtractedItemsFromFiles(splitFiles);
+            int totalPages = splitter.getPageCount(workingFile, contextInfo);
+            if (shouldSplit(workingFile, totalPages)) {
+                log.info("[{}] File '{}' ({} pages) requires splitting. Using '{}' strategy.", contextInfo,
+                         workingFile.getName(), totalPages, splitter.getStrategyName());
+                PdfProcessingCheckpoint newCheckpoint =
+                        checkpointService.saveOptimizedFile(context, workingFile, totalPages, config.getMaxPages());
+                return splitWithCheckpoints(workingFile, newCheckpoint, context, contextInfo);
             }
 
             log.info("[{}] File processed and does not require splitting.", contextInfo);
@@ -89,18 +137,76 @@ public class PdfHandler implements FileHandler {
         }
     }
 
-    private boolean shouldSplit(File pdfFile, String contextInfo)
-    throws FileConversionException, FileProtectedException, IOException, InterruptedException {
+    private boolean shouldSplit(File pdfFile, int totalPages) {
         if (pdfFile.length() > config.getMaxFileSize()) return true;
-        return splitter.getPageCount(pdfFile, contextInfo) > config.getMaxPages();
+        return totalPages > config.getMaxPages();
     }
 
-    private List<ExtractedFileItem> createExtractedItemsFromFiles(List<File> files) throws IOException {
+    private boolean isWithinFastPathSize(FileMaster context) {
+        DocumentProcessingConfig.Pdf.FastPath fastPath = config.getPdf().getFastPath();
+        return fastPath.isEnabled() && context.getFileSize() != null
+               && context.getFileSize() <= Math.min(fastPath.getMaxFileSize(), config.getMaxFileSize());
+    }
+
+    /**
+     * Reads only the cross-reference table and trailer of a small PDF, directly from the local file, to decide
+     * whether it can be passed through without optimization. Encrypted or unreadable files always take the
+     * regular path, which reports protection and corruption errors consistently.
+     */
+    private boolean qualifiesForPassthrough(Path sourceFile, String contextInfo) {
+        int maxPages = Math.min(config.getPdf().getFastPath().getMaxPages(), config.getMaxPages());
+        PdfReader reader = null;
+        try {
+            reader = new PdfReader(new RandomAccessFileOrArray(sourceFile.toString(), false, true), null);
+            int pageCount = reader.getNumberOfPages();
+            boolean qualifies = !reader.isEncrypted() && pageCount > 0 && pageCount <= maxPages;
+            log.info("[{}] Small PDF ({} bytes, {} pages) {} the passthrough fast path.", contextInfo,
+                     sourceFile.toFile().length(), pageCount, qualifies ? "qualifies for" : "does not qualify for");
+            return qualifies;
+        } catch (Exception e) {
+            log.debug("[{}] Could not read PDF trailer in-process; using the regular path.", contextInfo, e);
+            return false;
+        } finally {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Splits the optimized file chunk by chunk. Chunks recorded in the checkpoint are downloaded from S3;
+     * the rest are extracted and checkpointed one at a time, so a failure on chunk N resumes at chunk N.
+     */
+    private List<ExtractedFileItem> splitWithCheckpoints(File workingFile, PdfProcessingCheckpoint checkpoint,
+                                                         FileMaster context, String contextInfo)
+    throws FileConversionException, FileProtectedException, IOException, InterruptedException {
+        String baseName = FilenameUtils.getBaseName(context.getFileName());
+        int pagesPerChunk = checkpoint.getPagesPerChunk();
+        int totalPages = checkpoint.getTotalPages();
         List<ExtractedFileItem> items = new ArrayList<>();
-        for (File file : files) {
-            byte[] bytes = Files.readAllBytes(file.toPath());
-            items.add(new ExtractedFileItem(file.getName(), bytes));
+
+        int chunkNumber = 1;
+        for (int startPage = 1; startPage <= totalPages; startPage += pagesPerChunk, chunkNumber++) {
+            int endPage = Math.min(startPage + pagesPerChunk - 1, totalPages);
+            File chunkFile = new File(workingFile.getParentFile(), String.format("%s_part%d.pdf", baseName,
+                                                                                 chunkNumber));
+            if (chunkNumber <= checkpoint.getCompletedChunks()) {
+                checkpointService.downloadChunk(context, chunkNumber, chunkFile);
+            } else {
+                splitter.extractPages(workingFile, startPage, endPage, chunkFile, contextInfo);
+                checkpointService.recordCompletedChunk(context, chunkNumber, chunkFile);
+                checkpoint.setCompletedChunks(chunkNumber);
+            }
+            items.add(new ExtractedFileItem(chunkFile.getName(), Files.readAllBytes(chunkFile.toPath())));
+            Files.deleteIfExists(chunkFile.toPath());
         }
+
+        // The checkpoint is kept until the pipeline has committed the records of the parts; it clears it then.
+        log.info("[{}] Successfully split '{}' into {} parts.", contextInfo, workingFile.getName(), items.size());
         return items;
     }
-}
\ No newline at end of file
+
+    private int countChunks(PdfProcessingCheckpoint checkpoint) {
+        return (checkpoint.getTotalPages() + checkpoint.getPagesPerChunk() - 1) / checkpoint.getPagesPerChunk();
+    }
+}
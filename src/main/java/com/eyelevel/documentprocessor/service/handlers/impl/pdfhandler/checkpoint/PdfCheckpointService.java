@@ -0,0 +1,130 @@
+package com.eyelevel.documentprocessor.service.handlers.impl.pdfhandler.checkpoint;
+
+import com.eyelevel.documentprocessor.model.FileMaster;
+import com.eyelevel.documentprocessor.model.PdfProcessingCheckpoint;
+import com.eyelevel.documentprocessor.repository.PdfProcessingCheckpointRepository;
+import com.eyelevel.documentprocessor.service.s3.S3StorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persists the intermediate state of a large PDF split: the optimized file and every completed chunk are
+ * stored in S3, while the progress is tracked in {@code pdf_processing_checkpoint}. Each step is committed in
+ * its own transaction so that the progress survives the pipeline failure that triggers the retry.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PdfCheckpointService {
+
+    private final PdfProcessingCheckpointRepository checkpointRepository;
+    private final S3StorageService s3StorageService;
+
+    /**
+     * Finds a reusable checkpoint for the file. A checkpoint planned with a different chunk size is discarded.
+     */
+    public Optional<PdfProcessingCheckpoint> findUsableCheckpoint(FileMaster fileMaster, int pagesPerChunk) {
+        Optional<PdfProcessingCheckpoint> checkpoint = checkpointRepository.findById(fileMaster.getId());
+        if (checkpoint.isPresent() && checkpoint.get().getPagesPerChunk() != pagesPerChunk) {
+            log.info("Discarding PDF checkpoint for FileMaster ID {}: it was planned for {} pages per chunk, now {}.",
+                     fileMaster.getId(), checkpoint.get().getPagesPerChunk(), pagesPerChunk);
+            clear(fileMaster, checkpoint.get());
+            return Optional.empty();
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Stores the optimized file in S3 and records a new checkpoint with no completed chunks.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PdfProcessingCheckpoint saveOptimizedFile(FileMaster fileMaster, File optimizedFile, int totalPages,
+                                                     int pagesPerChunk) {
+        String s3Key = checkpointKey(fileMaster, "optimized.pdf");
+        s3StorageService.uploadFile(s3Key, optimizedFile.toPath());
+        PdfProcessingCheckpoint checkpoint = checkpointRepository.save(
+                PdfProcessingCheckpoint.builder().fileMasterId(fileMaster.getId()).optimizedFileLocation(s3Key)
+                                       .totalPages(totalPages).pagesPerChunk(pagesPerChunk).completedChunks(0)
+                                       .build());
+        log.info("Saved PDF checkpoint for FileMaster ID {} ({} pages, {} per chunk).", fileMaster.getId(),
+                 totalPages, pagesPerChunk);
+        return checkpoint;
+    }
+
+    /**
+     * Stores a finished chunk in S3 and advances the completed-chunk counter.
+     *
+     * @param chunkNumber The 1-based number of the chunk. Chunks are completed strictly in order.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordCompletedChunk(FileMaster fileMaster, int chunkNumber, File chunkFile) {
+        s3StorageService.uploadFile(chunkKey(fileMaster, chunkNumber), chunkFile.toPath());
+        checkpointRepository.advanceCompletedChunks(fileMaster.getId(), chunkNumber);
+        log.debug("Checkpointed chunk {} for FileMaster ID {}.", chunkNumber, fileMaster.getId());
+    }
+
+    public void downloadOptimizedFile(PdfProcessingCheckpoint checkpoint, File target) throws IOException {
+        s3StorageService.downloadToFile(checkpoint.getOptimizedFileLocation(), target.toPath());
+    }
+
+    public void downloadChunk(FileMaster fileMaster, int chunkNumber, File target) throws IOException {
+        s3StorageService.downloadToFile(chunkKey(fileMaster, chunkNumber), target.toPath());
+    }
+
+    /**
+     * Removes the checkpoint of the file, if it has one. Called once the records of its chunks are committed.
+     */
+    public void clear(FileMaster fileMaster) {
+        try {
+            checkpointRepository.findById(fileMaster.getId()).ifPresent(checkpoint -> clear(fileMaster, checkpoint));
+        } catch (Exception e) {
+            log.warn("Failed to look up the PDF checkpoint of FileMaster ID {}.", fileMaster.getId(), e);
+        }
+    }
+
+    /**
+     * Removes the checkpoint row and every S3 object it references once the file no longer needs resuming.
+     * Runs outside any surrounding transaction: the row is deleted in a transaction of its own, so a failure
+     * cannot mark a caller's transaction rollback-only, and the S3 objects are deleted only after that commit.
+     * Failures are logged and swallowed; leftover objects are overwritten on the next run of the file.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void clear(FileMaster fileMaster, PdfProcessingCheckpoint checkpoint) {
+        try {
+            checkpointRepository.deleteById(checkpoint.getFileMasterId());
+        } catch (Exception e) {
+            log.warn("Failed to clear PDF checkpoint for FileMaster ID {}.", fileMaster.getId(), e);
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(checkpoint.getOptimizedFileLocation());
+        for (int chunk = 1; chunk <= checkpoint.getCompletedChunks(); chunk++) {
+            keys.add(chunkKey(fileMaster, chunk));
+        }
+        try {
+            s3StorageService.deleteObjects(keys);
+            log.info("Cleared PDF checkpoint for FileMaster ID {}.", fileMaster.getId());
+        } catch (Exception e) {
+            log.warn("Cleared the PDF checkpoint row of FileMaster ID {} but failed to delete its S3 objects.",
+                     fileMaster.getId(), e);
+        }
+    }
+
+    private String chunkKey(FileMaster fileMaster, int chunkNumber) {
+        return checkpointKey(fileMaster, "part" + chunkNumber + ".pdf");
+    }
+
+    private String checkpointKey(FileMaster fileMaster, String name) {
+        return S3StorageService.constructS3Key(fileMaster.getId() + "_" + name, fileMaster.getGxBucketId(),
+                                               fileMaster.getProcessingJob().getId(), "checkpoint");
+    }
+}
@@ -15,6 +15,13 @@ public interface PdfSplitter {
     List<File> split(File inputFile, int pagesPerChunk, String contextInfo)
     throws FileConversionException, FileProtectedException, InterruptedException, IOException;
 
+    /**
+     * Writes the inclusive page range {@code startPage..endPage} of the input file to {@code outputFile}.
+     * Used to split a document one chunk at a time so that progress can be checkpointed between chunks.
+     */
+    File extractPages(File inputFile, int startPage, int endPage, File outputFile, String contextInfo)
+    throws FileConversionException, FileProtectedException, InterruptedException, IOException;
+
     int getPageCount(File pdfFile, String contextInfo)
     throws FileConversionException, FileProtectedException, IOException, InterruptedException;
 
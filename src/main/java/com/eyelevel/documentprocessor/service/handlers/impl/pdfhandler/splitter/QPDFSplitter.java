@@ -56,30 +56,7 @@ public class QPDFSplitter implements PdfSplitter {
             for (int startPage = 1; startPage <= totalPages; startPage += pagesPerChunk) {
                 int endPage = Math.min(startPage + pagesPerChunk - 1, totalPages);
                 File outputFile = new File(inputFile.getParentFile(), String.format("%s_part%d.pdf", baseName, part++));
-
-                // Build a simple, robust command for a single chunk.
-                List<String> command = List.of("qpdf", inputFile.getAbsolutePath(), "--pages", ".",
-                        // Represents the input file
-                        startPage + "-" + endPage, "--", outputFile.getAbsolutePath());
-
-                // Execute the command for this single chunk.
-                ProcessExecutor.ProcessResult result = processExecutor.execute(command, contextInfo, 2, "qpdf");
-
-                if (result.exitCode() != 0) {
-                    if (QPDF_PASSWORD_ERROR_PATTERN.matcher(result.stderr()).find()) {
-                        throw new FileProtectedException("qpdf failed: file is encrypted. " + inputFile.getName());
-                    }
-                    throw new FileConversionException(
-                            String.format("qpdf splitting failed for '%s' (pages %d-%d). Error: %s",
-                                    inputFile.getName(), startPage, endPage, result.stderr()));
-                }
-
-                // Verify this one chunk was created.
-                if (!outputFile.exists() || outputFile.length() == 0) {
-                    throw new FileConversionException(
-                            "qpdf did not produce expected output file: " + outputFile.getName());
-                }
-                outputFiles.add(outputFile);
+                outputFiles.add(runPageExtraction(inputFile, startPage, endPage, outputFile, contextInfo));
             }
 
             log.info("[{}] Successfully split '{}' into {} parts using qpdf.", contextInfo, inputFile.getName(),
@@ -99,6 +76,66 @@ public class QPDFSplitter implements PdfSplitter {
         }
     }
 
+    @Override
+    @Retryable(retryFor = {FileConversionException.class, IOException.class, InterruptedException.class},
+            maxAttemptsExpression = "#{${app.processing.pdf.qpdf.splitter.retry.attempts} + 1}",
+            backoff = @Backoff(delayExpression = "#{${app.processing.pdf.qpdf.splitter.retry.delay-ms}}"),
+            listeners = {"qpdfRetryListener"})
+    public File extractPages(File inputFile, int startPage, int endPage, File outputFile, String contextInfo)
+            throws FileConversionException, FileProtectedException, IOException, InterruptedException {
+        log.debug("[{}] Extracting pages {}-{} of '{}' into '{}'.", contextInfo, startPage, endPage,
+                inputFile.getName(), outputFile.getName());
+        try {
+            return runPageExtraction(inputFile, startPage, endPage, outputFile, contextInfo);
+        } catch (FileConversionException | FileProtectedException | IOException | InterruptedException e) {
+            Files.deleteIfExists(outputFile.toPath());
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @Recover
+    public File recover(Exception e, File inputFile, int startPage, int endPage, File outputFile, String contextInfo)
+            throws FileConversionException, FileProtectedException {
+        if (e instanceof FileProtectedException) {
+            log.error("[{}] {} determined '{}' is password protected. This is a terminal failure.", contextInfo,
+                    getStrategyName(), inputFile.getName());
+            throw (FileProtectedException) e;
+        }
+        log.error("[{}] {} failed to extract pages {}-{} of '{}' after all retry attempts.", contextInfo,
+                getStrategyName(), startPage, endPage, inputFile.getName(), e);
+        throw new FileConversionException(
+                String.format("%s failed to extract pages %d-%d of '%s' after all retries.", getStrategyName(),
+                        startPage, endPage, inputFile.getName()), e);
+    }
+
+    private File runPageExtraction(File inputFile, int startPage, int endPage, File outputFile, String contextInfo)
+            throws FileConversionException, FileProtectedException, IOException, InterruptedException {
+        // Build a simple, robust command for a single chunk.
+        List<String> command = List.of("qpdf", inputFile.getAbsolutePath(), "--pages", ".",
+                // Represents the input file
+                startPage + "-" + endPage, "--", outputFile.getAbsolutePath());
+
+        // Execute the command for this single chunk.
+        ProcessExecutor.ProcessResult result = processExecutor.execute(command, contextInfo, 2, "qpdf");
+
+        if (result.exitCode() != 0) {
+            if (QPDF_PASSWORD_ERROR_PATTERN.matcher(result.stderr()).find()) {
+                throw new FileProtectedException("qpdf failed: file is encrypted. " + inputFile.getName());
+            }
+            throw new FileConversionException(
+                    String.format("qpdf splitting failed for '%s' (pages %d-%d). Error: %s",
+                            inputFile.getName(), startPage, endPage, result.stderr()));
+        }
+
+        // Verify this one chunk was created.
+        if (!outputFile.exists() || outputFile.length() == 0) {
+            throw new FileConversionException(
+                    "qpdf did not produce expected output file: " + outputFile.getName());
+        }
+        return outputFile;
+    }
+
     private void cleanup(List<File> files) {
         files.forEach(file -> {
             try {
@@ -0,0 +1,123 @@
+package com.eyelevel.documentprocessor.service.job;
+
+import com.eyelevel.documentprocessor.repository.JobProgressRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finalizes a job as soon as its last piece of outstanding work settles, instead of waiting for the next run of
+ * the {@link com.eyelevel.documentprocessor.scheduler.JobLifecycleScheduler}.
+ * <p>
+ * {@link JobProgressListener} reports every ZIP, file and GX record that reaches a terminal state. The records
+ * touched by a transaction are collected and, once it commits, checked against the trigger-maintained
+ * {@code job_progress} counters in one query; every job whose counters are all zero is finalized on the
+ * application task executor.
+ */
+@Slf4j
+@Service
+public class JobCompletionTracker {
+
+    private final JobProgressRepository jobProgressRepository;
+    private final JobLifecycleManager jobLifecycleManager;
+    private final AsyncTaskExecutor taskExecutor;
+
+    /**
+     * The records touched by one transaction.
+     */
+    private static final class TouchedRecords {
+        private final Set<Long> jobIds = new LinkedHashSet<>();
+        private final Set<Long> gxMasterIds = new LinkedHashSet<>();
+    }
+
+    public JobCompletionTracker(final JobProgressRepository jobProgressRepository,
+                                final JobLifecycleManager jobLifecycleManager,
+                                @Qualifier("applicationTaskExecutor") final AsyncTaskExecutor taskExecutor) {
+        this.jobProgressRepository = jobProgressRepository;
+        this.jobLifecycleManager = jobLifecycleManager;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Records that a ZIP or file record of the job reached a terminal state in the current transaction.
+     */
+    public void childSettled(final Long jobId) {
+        final TouchedRecords touched = currentTouchedRecords();
+        if (touched != null && jobId != null) {
+            touched.jobIds.add(jobId);
+        }
+    }
+
+    /**
+     * Records that a GX record reached a terminal state in the current transaction. The owning job is looked up
+     * only after commit, to avoid loading the source file of every GX record while flushing.
+     */
+    public void gxRecordSettled(final Long gxMasterId) {
+        final TouchedRecords touched = currentTouchedRecords();
+        if (touched != null && gxMasterId != null) {
+            touched.gxMasterIds.add(gxMasterId);
+        }
+    }
+
+    private TouchedRecords currentTouchedRecords() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Outside a transaction there is no commit to wait for; the reconciliation pass picks the job up.
+            return null;
+        }
+        final TouchedRecords existing = (TouchedRecords) TransactionSynchronizationManager.getResource(this);
+        if (existing != null) {
+            return existing;
+        }
+
+        final TouchedRecords touched = new TouchedRecords();
+        TransactionSynchronizationManager.bindResource(this, touched);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(JobCompletionTracker.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(JobCompletionTracker.this, touched);
+            }
+
+            @Override
+            public void afterCommit() {
+                taskExecutor.execute(() -> finalizeSettledJobs(touched));
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(JobCompletionTracker.this);
+            }
+        });
+        return touched;
+    }
+
+    private void finalizeSettledJobs(final TouchedRecords touched) {
+        try {
+            final Set<Long> settledJobIds = new LinkedHashSet<>();
+            if (!touched.jobIds.isEmpty()) {
+                settledJobIds.addAll(jobProgressRepository.findSettledJobIds(List.copyOf(touched.jobIds)));
+            }
+            if (!touched.gxMasterIds.isEmpty()) {
+                settledJobIds.addAll(
+                        jobProgressRepository.findSettledJobIdsForGxMasters(List.copyOf(touched.gxMasterIds)));
+            }
+            for (final Long jobId : settledJobIds) {
+                log.debug("Job ID {} has no outstanding work left. Finalizing it now.", jobId);
+                jobLifecycleManager.finalizeJob(jobId);
+            }
+        } catch (final Exception e) {
+            log.error("Failed to finalize settled jobs after commit. The reconciliation pass will retry them.", e);
+        }
+    }
+}
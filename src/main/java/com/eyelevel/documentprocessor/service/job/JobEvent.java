@@ -0,0 +1,13 @@
+package com.eyelevel.documentprocessor.service.job;
+
+/**
+ * A committed status transition of a job or one of its ZIP, file or GX records, as published by the database on
+ * the {@code job_events} channel.
+ *
+ * @param jobId  The ID of the job the record belongs to.
+ * @param entity The kind of record: {@code JOB}, {@code ZIP}, {@code FILE} or {@code GX}.
+ * @param id     The ID of the record.
+ * @param status The new status of the record.
+ */
+public record JobEvent(Long jobId, String entity, Long id, String status) {
+}
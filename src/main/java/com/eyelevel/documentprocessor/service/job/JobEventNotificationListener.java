@@ -0,0 +1,121 @@
+package com.eyelevel.documentprocessor.service.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Listens on the Postgres {@code job_events} channel and republishes every notification as a {@link JobEvent}
+ * application event.
+ * <p>
+ * The channel is fed by triggers on {@code processing_job}, {@code zip_master}, {@code file_master} and
+ * {@code gx_master} for jobs subscribed in {@code job_event_subscription}, so every node learns about transitions
+ * of streamed jobs committed by any node. The listener holds a dedicated connection outside the connection pool,
+ * since it stays open for the lifetime of the application, and reconnects after
+ * {@code app.job-events.reconnect-delay-ms} if it is lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobEventNotificationListener implements SmartLifecycle {
+
+    private static final String CHANNEL = "job_events";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.job-events.listen-enabled}")
+    private boolean listenEnabled;
+
+    @Value("${app.job-events.poll-timeout-ms}")
+    private int pollTimeoutMs;
+
+    @Value("${app.job-events.reconnect-delay-ms}")
+    private long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start() {
+        if (!listenEnabled) {
+            log.info("Job event listening is disabled. Live progress streams will not receive updates.");
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofPlatform().daemon().name("job-events-listener").start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            try {
+                listenerThread.join(Math.max(1, pollTimeoutMs) * 2L);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                                                                     dataSourceProperties.determineUsername(),
+                                                                     dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for job events on channel '{}'.", CHANNEL);
+
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (final PGNotification notification : notifications) {
+                            publish(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (final SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lost the job event listener connection. Reconnecting in {} ms.", reconnectDelayMs, e);
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (final InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void publish(final String payload) {
+        try {
+            eventPublisher.publishEvent(objectMapper.readValue(payload, JobEvent.class));
+        } catch (final Exception e) {
+            log.warn("Could not dispatch job event '{}'.", payload, e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.eyelevel.documentprocessor.service.job;
+
+import com.eyelevel.documentprocessor.dto.job.response.JobProgressSnapshot;
+import com.eyelevel.documentprocessor.exception.apiclient.NotFoundException;
+import com.eyelevel.documentprocessor.model.JobProgress;
+import com.eyelevel.documentprocessor.model.ProcessingJob;
+import com.eyelevel.documentprocessor.model.ProcessingStatus;
+import com.eyelevel.documentprocessor.repository.JobEventSubscriptionRepository;
+import com.eyelevel.documentprocessor.repository.JobProgressRepository;
+import com.eyelevel.documentprocessor.repository.ProcessingJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes the progress of processing jobs to server-sent event streams.
+ * <p>
+ * A subscriber first receives a {@code progress} event with the job's current state. After that, every committed
+ * transition of the job or one of its records, received as a {@link JobEvent}, is sent as a {@code transition}
+ * event followed by a fresh {@code progress} event. The stream is completed once the job is COMPLETED or
+ * TERMINATED; FAILED and PARTIAL_SUCCESS jobs stay open, as they can still be retried.
+ * <p>
+ * Transitions are only published for jobs with a row in {@code job_event_subscription}. Each node renews the rows
+ * of the jobs it streams on every heartbeat, for {@code app.job-events.subscription-ttl-seconds}, so unwatched jobs
+ * cost the triggers a single index lookup. Events are delivered on the bounded {@code jobEventExecutor}, and
+ * heartbeats run on a thread of their own, so a slow client holds up neither the listener nor other schedulers.
+ */
+@Slf4j
+@Service
+public class JobEventStreamService implements SmartLifecycle {
+
+    private static final Set<ProcessingStatus> CLOSING_STATUSES = EnumSet.of(ProcessingStatus.COMPLETED,
+                                                                             ProcessingStatus.TERMINATED);
+
+    private final ProcessingJobRepository processingJobRepository;
+    private final JobProgressRepository jobProgressRepository;
+    private final JobEventSubscriptionRepository jobEventSubscriptionRepository;
+    private final AsyncTaskExecutor jobEventExecutor;
+    private final long emitterTimeoutMinutes;
+    private final long heartbeatSeconds;
+    private final long subscriptionTtlSeconds;
+    private final Map<Long, Set<SseEmitter>> emittersByJob = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService heartbeatScheduler;
+
+    /**
+     * @throws IllegalStateException if subscriptions would lapse between two heartbeats.
+     */
+    public JobEventStreamService(final ProcessingJobRepository processingJobRepository,
+                                 final JobProgressRepository jobProgressRepository,
+                                 final JobEventSubscriptionRepository jobEventSubscriptionRepository,
+                                 @Qualifier("jobEventExecutor") final AsyncTaskExecutor jobEventExecutor,
+                                 @Value("${app.job-events.emitter-timeout-minutes}") final long emitterTimeoutMinutes,
+                                 @Value("${app.job-events.heartbeat-seconds}") final long heartbeatSeconds,
+                                 @Value("${app.job-events.subscription-ttl-seconds}")
+                                 final long subscriptionTtlSeconds) {
+        if (subscriptionTtlSeconds <= heartbeatSeconds) {
+            throw new IllegalStateException("app.job-events.subscription-ttl-seconds must be greater than "
+                                            + "app.job-events.heartbeat-seconds.");
+        }
+        this.processingJobRepository = processingJobRepository;
+        this.jobProgressRepository = jobProgressRepository;
+        this.jobEventSubscriptionRepository = jobEventSubscriptionRepository;
+        this.jobEventExecutor = jobEventExecutor;
+        this.emitterTimeoutMinutes = emitterTimeoutMinutes;
+        this.heartbeatSeconds = heartbeatSeconds;
+        this.subscriptionTtlSeconds = subscriptionTtlSeconds;
+    }
+
+    @Override
+    public void start() {
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("job-events-heartbeat").factory());
+        heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds,
+                                                  TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+            heartbeatScheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return heartbeatScheduler != null;
+    }
+
+    /**
+     * Opens a progress stream for a job.
+     *
+     * @throws NotFoundException if the job does not exist.
+     */
+    public SseEmitter subscribe(final Long jobId) {
+        final ProcessingJob job = processingJobRepository.findById(jobId).orElseThrow(
+                () -> new NotFoundException("ProcessingJob with ID " + jobId + " not found."));
+        // Subscribe before taking the snapshot, so that no transition after it goes unpublished.
+        jobEventSubscriptionRepository.renew(List.of(jobId), subscriptionTtlSeconds);
+
+        final SseEmitter emitter = new SseEmitter(Duration.ofMinutes(emitterTimeoutMinutes).toMillis());
+        emitter.onCompletion(() -> unregister(jobId, emitter));
+        emitter.onTimeout(() -> unregister(jobId, emitter));
+        emitter.onError(e -> unregister(jobId, emitter));
+        emittersByJob.compute(jobId, (id, emitters) -> {
+            final Set<SseEmitter> registered = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            registered.add(emitter);
+            return registered;
+        });
+        log.debug("Opened a progress stream for Job ID {}.", jobId);
+
+        final JobProgressSnapshot snapshot = snapshot(job);
+        send(jobId, emitter, SseEmitter.event().name("progress").data(snapshot));
+        if (CLOSING_STATUSES.contains(snapshot.status())) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * Hands a committed transition to the {@code jobEventExecutor} for delivery to the streams of its job on this
+     * node. Jobs without streams on this node cost nothing. An event that finds the executor full is dropped; the
+     * next event of the job carries a fresh snapshot.
+     */
+    @EventListener
+    public void onJobEvent(final JobEvent event) {
+        final Set<SseEmitter> emitters = emittersByJob.get(event.jobId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        try {
+            jobEventExecutor.execute(() -> deliver(event));
+        } catch (final TaskRejectedException e) {
+            log.warn("Dropping a {} event of Job ID {}: the job event executor is full.", event.entity(),
+                     event.jobId());
+        }
+    }
+
+    private void deliver(final JobEvent event) {
+        final Set<SseEmitter> emitters = emittersByJob.get(event.jobId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        final JobProgressSnapshot snapshot = processingJobRepository.findById(event.jobId())
+                                                                    .map(this::snapshot)
+                                                                    .orElse(null);
+        for (final SseEmitter emitter : emitters) {
+            send(event.jobId(), emitter, SseEmitter.event().name("transition").data(event));
+            if (snapshot != null) {
+                send(event.jobId(), emitter, SseEmitter.event().name("progress").data(snapshot));
+            }
+            if (snapshot == null || CLOSING_STATUSES.contains(snapshot.status())) {
+                emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * Renews the subscriptions of the jobs streamed on this node, keeps idle streams alive through proxies and
+     * detects clients that have gone away.
+     */
+    private void sendHeartbeats() {
+        try {
+            if (!emittersByJob.isEmpty()) {
+                jobEventSubscriptionRepository.renew(Set.copyOf(emittersByJob.keySet()), subscriptionTtlSeconds);
+            }
+            jobEventSubscriptionRepository.deleteExpired();
+        } catch (final RuntimeException e) {
+            log.warn("Could not renew the job event subscriptions of this node.", e);
+        }
+        emittersByJob.forEach((jobId, emitters) -> emitters.forEach(
+                emitter -> send(jobId, emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private JobProgressSnapshot snapshot(final ProcessingJob job) {
+        final JobProgress progress = jobProgressRepository.findById(job.getId()).orElse(null);
+        return new JobProgressSnapshot(job.getId(), job.getStatus(), job.getCurrentStage(),
+                                       progress != null ? progress.getPendingZips() : 0,
+                                       progress != null ? progress.getPendingFiles() : 0,
+                                       progress != null ? progress.getPendingGx() : 0);
+    }
+
+    private void send(final Long jobId, final SseEmitter emitter, final SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (final IOException | IllegalStateException e) {
+            log.debug("Dropping a progress stream of Job ID {}: {}", jobId, e.getMessage());
+            unregister(jobId, emitter);
+        }
+    }
+
+    private void unregister(final Long jobId, final SseEmitter emitter) {
+        emittersByJob.computeIfPresent(jobId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.eyelevel.documentprocessor.service.job;
 import com.eyelevel.documentprocessor.model.*;
 import com.eyelevel.documentprocessor.repository.FileMasterRepository;
 import com.eyelevel.documentprocessor.repository.GxMasterRepository;
+import com.eyelevel.documentprocessor.repository.JobProgressRepository;
 import com.eyelevel.documentprocessor.repository.ProcessingJobRepository;
 import com.eyelevel.documentprocessor.repository.ZipMasterRepository;
 import com.eyelevel.documentprocessor.service.sqs.SqsManagerService;
@@ -32,6 +33,7 @@ public class JobLifecycleManager {
     private final ZipMasterRepository zipMasterRepository;
     private final FileMasterRepository fileMasterRepository;
     private final GxMasterRepository gxMasterRepository;
+    private final JobProgressRepository jobProgressRepository;
     private final SqsManagerService sqsManagerService;
     private JobLifecycleManager self;
 
@@ -82,7 +84,7 @@ public class JobLifecycleManager {
         fileMasterRepository.updateStatusForJobIds(jobIdsToTerminate, FileProcessingStatus.TERMINATED, terminableFileStatuses);
 
         // 4. Terminate associated GxMaster records to prevent them from being picked up by schedulers.
-        final List<GxStatus> terminableGxStatuses = List.of(GxStatus.QUEUED_FOR_UPLOAD);
+        final List<GxStatus> terminableGxStatuses = List.of(GxStatus.QUEUED_FOR_UPLOAD, GxStatus.UPLOADING);
         gxMasterRepository.updateStatusForJobIds(jobIdsToTerminate, GxStatus.TERMINATED, terminableGxStatuses);
 
         // After all database updates are part of this single transaction, purge the SQS queues.
@@ -121,11 +123,71 @@ public class JobLifecycleManager {
             final List<FileProcessingStatus> terminableFileStatuses = List.of(FileProcessingStatus.QUEUED, FileProcessingStatus.IN_PROGRESS);
             fileMasterRepository.updateStatusForJobIds(jobIdList, FileProcessingStatus.TERMINATED, terminableFileStatuses);
 
-            final List<GxStatus> terminableGxStatuses = List.of(GxStatus.QUEUED_FOR_UPLOAD);
+            final List<GxStatus> terminableGxStatuses = List.of(GxStatus.QUEUED_FOR_UPLOAD, GxStatus.UPLOADING);
             gxMasterRepository.updateStatusForJobIds(jobIdList, GxStatus.TERMINATED, terminableGxStatuses);
         });
     }
 
+    /**
+     * Finalizes, in one set-based statement, every active or retryable job whose components changed since its
+     * last evaluation and have all reached a terminal state. Jobs with pending work, or with no components yet,
+     * are left untouched.
+     *
+     * @return The number of jobs that were finalized or had their summary remark refreshed.
+     */
+    @Transactional
+    public int finalizeSettledJobs() {
+        return processingJobRepository.finalizeSettledJobs(null);
+    }
+
+    /**
+     * Records that the changed jobs have been evaluated, so the next run skips them until their components change
+     * again. Jobs whose components changed within the last {@code quietMinutes} stay marked as changed.
+     *
+     * @return The number of jobs marked as evaluated.
+     */
+    @Transactional
+    public int markJobsEvaluated(final long quietMinutes) {
+        return jobProgressRepository.markEvaluated(quietMinutes);
+    }
+
+    /**
+     * Finalizes a single job in a new transaction if all of its components have reached a terminal state.
+     * Called by the {@link JobCompletionTracker} once the job's outstanding-work counters reach zero.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void finalizeJob(final Long jobId) {
+        if (processingJobRepository.finalizeSettledJobs(jobId) > 0) {
+            log.info("Finalized Job ID {} as its last outstanding component settled.", jobId);
+        }
+    }
+
+    /**
+     * Recounts the outstanding work of every unfinished job and corrects counters that were not touched for
+     * {@code quietMinutes} but no longer match their components.
+     *
+     * @return The number of corrected counters.
+     */
+    @Transactional
+    public int reconcileJobProgress(final long quietMinutes) {
+        return jobProgressRepository.reconcileCounters(quietMinutes);
+    }
+
+    /**
+     * Moves one batch of jobs in the given final statuses, last updated more than {@code retentionDays} ago, into
+     * the archive tables, in a single transaction. Archived jobs disappear from the job, listing and metrics
+     * endpoints.
+     *
+     * @return The number of jobs archived.
+     */
+    @Transactional
+    public int archiveFinalizedJobs(final long retentionDays, final Set<ProcessingStatus> statuses,
+                                    final int batchSize) {
+        return processingJobRepository.archiveFinalizedJobs(retentionDays,
+                                                            statuses.stream().map(ProcessingStatus::name).toList(),
+                                                            batchSize);
+    }
+
     // ... The rest of the methods below are already well-optimized for their specific use cases ...
     // ... No changes are needed for them. ...
 
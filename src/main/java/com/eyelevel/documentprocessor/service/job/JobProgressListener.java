@@ -0,0 +1,52 @@
+package com.eyelevel.documentprocessor.service.job;
+
+import com.eyelevel.documentprocessor.model.*;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * JPA entity listener on {@link ZipMaster}, {@link FileMaster} and {@link GxMaster} that reports records reaching
+ * a terminal state to the {@link JobCompletionTracker}. Records that are still pending cannot complete a job and
+ * are ignored. Bulk JPQL updates bypass entity listeners; the jobs they settle are finalized by the scheduler.
+ */
+@Component
+public class JobProgressListener {
+
+    // These sets must match the pending statuses counted by the job_progress triggers.
+    private static final Set<ZipProcessingStatus> PENDING_ZIP_STATUSES = EnumSet.of(
+            ZipProcessingStatus.QUEUED_FOR_EXTRACTION, ZipProcessingStatus.EXTRACTION_IN_PROGRESS);
+
+    private static final Set<FileProcessingStatus> PENDING_FILE_STATUSES = EnumSet.of(
+            FileProcessingStatus.QUEUED, FileProcessingStatus.IN_PROGRESS);
+
+    // EnumSet, unlike Set.of, accepts the null status of a GX record that has not been submitted yet.
+    private static final Set<GxStatus> PENDING_GX_STATUSES = EnumSet.of(
+            GxStatus.QUEUED_FOR_UPLOAD, GxStatus.UPLOADING, GxStatus.QUEUED, GxStatus.PROCESSING, GxStatus.ERROR);
+
+    // Resolved lazily: the tracker depends on repositories, which are created after the entity manager factory.
+    private final ObjectProvider<JobCompletionTracker> completionTracker;
+
+    public JobProgressListener(final ObjectProvider<JobCompletionTracker> completionTracker) {
+        this.completionTracker = completionTracker;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(final Object entity) {
+        if (entity instanceof ZipMaster zip && !PENDING_ZIP_STATUSES.contains(zip.getZipProcessingStatus())) {
+            completionTracker.getObject().childSettled(zip.getProcessingJob().getId());
+        } else if (entity instanceof FileMaster file
+                   && !PENDING_FILE_STATUSES.contains(file.getFileProcessingStatus())) {
+            completionTracker.getObject().childSettled(file.getProcessingJob().getId());
+        } else if (entity instanceof GxMaster gx && !PENDING_GX_STATUSES.contains(gx.getGxStatus())) {
+            completionTracker.getObject().gxRecordSettled(gx.getId());
+        }
+    }
+}
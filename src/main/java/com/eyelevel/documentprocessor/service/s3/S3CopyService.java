@@ -0,0 +1,107 @@
+package com.eyelevel.documentprocessor.service.s3;
+
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.CopyRequest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Performs server-side S3 copies within the application bucket through {@link S3TransferManager}.
+ *
+ * <p>The transfer manager is backed by a dedicated CRT client, which splits objects above
+ * {@code aws.s3.copy.multipart-threshold-bytes} into parallel {@code UploadPartCopy} requests. This lifts the 5 GB
+ * limit of a single {@code CopyObject} call and means a failed part is retried on its own instead of restarting
+ * the whole copy.
+ */
+@Slf4j
+@Service
+public class S3CopyService {
+
+    private static final double BYTES_PER_MB = 1024d * 1024d;
+
+    private final S3TransferManager transferManager;
+    private final String bucketName;
+
+    /**
+     * A single copy to perform within the bucket.
+     *
+     * @param sizeBytes The object size if known; used only for throughput reporting.
+     */
+    public record CopyTask(String sourceKey, String destinationKey, @Nullable Long sizeBytes) {
+    }
+
+    /**
+     * The outcome of a completed copy.
+     */
+    public record CopyResult(String sourceKey, String destinationKey, @Nullable Long sizeBytes, Duration elapsed) {
+
+        /**
+         * @return The copy throughput in MB/s, or {@code -1} if the object size is unknown.
+         */
+        public double throughputMbPerSecond() {
+            if (sizeBytes == null || elapsed.isZero()) {
+                return -1;
+            }
+            return sizeBytes / BYTES_PER_MB / (elapsed.toNanos() / 1_000_000_000d);
+        }
+    }
+
+    public S3CopyService(@Qualifier("s3CopyTransferManager") final S3TransferManager transferManager,
+                         @Value("${aws.s3.bucket}") final String bucketName) {
+        this.transferManager = transferManager;
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Starts a server-side copy and returns immediately.
+     *
+     * @return A future that completes with the copy result once S3 has finished the copy.
+     */
+    public CompletableFuture<CopyResult> copyAsync(final CopyTask task) {
+        log.debug("Starting S3 copy from '{}' to '{}'.", task.sourceKey(), task.destinationKey());
+        final long startNanos = System.nanoTime();
+        final CopyRequest copyRequest = CopyRequest.builder()
+                .copyObjectRequest(req -> req.sourceBucket(bucketName).sourceKey(task.sourceKey())
+                        .destinationBucket(bucketName).destinationKey(task.destinationKey()))
+                .build();
+
+        return transferManager.copy(copyRequest).completionFuture().thenApply(completed -> {
+            final CopyResult result = new CopyResult(task.sourceKey(), task.destinationKey(), task.sizeBytes(),
+                    Duration.ofNanos(System.nanoTime() - startNanos));
+            logCompletedCopy(result);
+            return result;
+        });
+    }
+
+    /**
+     * Performs a server-side copy and blocks until it completes.
+     *
+     * @throws RuntimeException The underlying S3 failure if the copy does not succeed.
+     */
+    public CopyResult copy(final CopyTask task) {
+        try {
+            return copyAsync(task).join();
+        } catch (CompletionException e) {
+            log.error("S3 copy from '{}' to '{}' failed.", task.sourceKey(), task.destinationKey(), e.getCause());
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    private void logCompletedCopy(final CopyResult result) {
+        if (result.sizeBytes() == null) {
+            log.info("Copied S3 object '{}' to '{}' in {} ms.", result.sourceKey(), result.destinationKey(),
+                    result.elapsed().toMillis());
+        } else {
+            log.info("Copied S3 object '{}' to '{}' ({} bytes) in {} ms ({} MB/s).", result.sourceKey(),
+                    result.destinationKey(), result.sizeBytes(), result.elapsed().toMillis(),
+                    String.format("%.2f", result.throughputMbPerSecond()));
+        }
+    }
+}
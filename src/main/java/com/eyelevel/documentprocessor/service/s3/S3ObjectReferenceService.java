@@ -0,0 +1,73 @@
+package com.eyelevel.documentprocessor.service.s3;
+
+import com.eyelevel.documentprocessor.repository.FileMasterRepository;
+import com.eyelevel.documentprocessor.repository.GxMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Tracks how many records point at an S3 object and deletes the object once nothing references it.
+ *
+ * <p>A passthrough GxMaster reuses the key of its source FileMaster instead of owning a copy, so one object
+ * can be referenced by a FileMaster and any number of GxMasters. The reference count is derived from the
+ * {@code file_location} columns of both tables and of their archive tables, which keeps it consistent with every
+ * code path that changes those rows.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3ObjectReferenceService {
+
+    private final FileMasterRepository fileMasterRepository;
+    private final GxMasterRepository gxMasterRepository;
+    private final S3StorageService s3StorageService;
+
+    /**
+     * @return The number of FileMaster and GxMaster rows, hot or archived, whose {@code file_location} is the
+     *         given key.
+     */
+    public long countReferences(final String s3Key) {
+        return fileMasterRepository.countByFileLocation(s3Key) + gxMasterRepository.countByFileLocation(s3Key)
+               + fileMasterRepository.countArchivedByFileLocation(s3Key)
+               + gxMasterRepository.countArchivedByFileLocation(s3Key);
+    }
+
+    /**
+     * Deletes the object if no row references it any more. The check runs after the current transaction
+     * commits, so the reference being dropped is no longer visible; without an active transaction it runs
+     * immediately.
+     *
+     * @param s3Key The key of the object whose reference was just removed.
+     */
+    public void releaseAfterCommit(final String s3Key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(s3Key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(s3Key);
+            }
+        });
+    }
+
+    private void release(final String s3Key) {
+        try {
+            final long references = countReferences(s3Key);
+            if (references > 0) {
+                log.debug("S3 object '{}' is still referenced by {} record(s); keeping it.", s3Key, references);
+                return;
+            }
+            s3StorageService.deleteObjects(List.of(s3Key));
+            log.info("Deleted unreferenced S3 object '{}'.", s3Key);
+        } catch (Exception e) {
+            log.warn("Failed to release S3 object '{}'. It will remain in the bucket.", s3Key, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.eyelevel.documentprocessor.service.s3;
 
+import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -36,16 +37,18 @@ public class S3StorageService {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final S3TransferManager transferManager;
+    private final S3CopyService s3CopyService;
     private final String bucketName;
     private final long presignedUrlDurationMinutes;
 
     public S3StorageService(final S3Client s3Client, final S3Presigner s3Presigner,
-                            final S3TransferManager transferManager,
+                            final S3TransferManager transferManager, final S3CopyService s3CopyService,
                             @Value("${aws.s3.bucket}") final String bucketName,
                             @Value("${aws.s3.presigned-url-duration-minutes}") final long presignedUrlDurationMinutes) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.transferManager = transferManager; // ADDED
+        this.s3CopyService = s3CopyService;
         this.bucketName = bucketName;
         this.presignedUrlDurationMinutes = presignedUrlDurationMinutes;
         log.info("S3StorageService initialized for bucket '{}' with a pre-signed URL duration of {} minutes.",
@@ -138,6 +141,60 @@ public class S3StorageService {
     }
 
 
+    /**
+     * Uploads an existing local file to a specified S3 key, blocking until the transfer completes.
+     * Unlike {@link #upload(String, InputStream, long)}, no intermediate temporary copy is made.
+     *
+     * @param s3Key The destination S3 key.
+     * @param file  The local file to upload. The caller remains responsible for deleting it.
+     */
+    public void uploadFile(final String s3Key, final Path file) {
+        log.debug("Uploading local file {} to S3 key: {}", file.toAbsolutePath(), s3Key);
+        UploadFileRequest uploadFileRequest = UploadFileRequest.builder()
+                .putObjectRequest(req -> req.bucket(bucketName).key(s3Key))
+                .source(file)
+                .build();
+        transferManager.uploadFile(uploadFileRequest).completionFuture().join();
+        log.info("Successfully uploaded local file to S3 key: {}", s3Key);
+    }
+
+    /**
+     * Downloads an object from S3 directly into a local file, replacing it if it exists.
+     *
+     * @param s3Key  The S3 key of the object to download.
+     * @param target The local file to write.
+     */
+    public void downloadToFile(final String s3Key, final Path target) throws IOException {
+        log.debug("Downloading object from S3 key {} to {}", s3Key, target.toAbsolutePath());
+        try (InputStream in = downloadStream(s3Key)) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the given objects from the bucket in a single batch request. Missing keys are ignored by S3.
+     *
+     * @param s3Keys The keys to delete (at most 1000 per S3 batch limits).
+     */
+    public void deleteObjects(final List<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        final List<ObjectIdentifier> identifiers = s3Keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        final DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder().objects(identifiers).quiet(true).build())
+                .build());
+        if (response.hasErrors() && !response.errors().isEmpty()) {
+            log.warn("Failed to delete {} of {} S3 object(s). First error: {}", response.errors().size(),
+                    s3Keys.size(), response.errors().getFirst().message());
+        } else {
+            log.debug("Deleted {} S3 object(s).", s3Keys.size());
+        }
+    }
+
     /**
      * Downloads an object from S3 as an {@link InputStream}. The caller is responsible for closing the stream.
      * This method continues to use the standard S3Client, which is efficient for streaming downloads.
@@ -151,6 +208,28 @@ public class S3StorageService {
         return s3Client.getObject(getObjectRequest);
     }
 
+    /**
+     * @return The size of the object in bytes, read with a {@code HeadObject} request.
+     */
+    public long getObjectSize(final String s3Key) {
+        return s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(s3Key).build()).contentLength();
+    }
+
+    /**
+     * Downloads a byte range of an object with a ranged {@code GetObject} request.
+     *
+     * @param s3Key  The S3 key of the object.
+     * @param offset The offset of the first byte to read.
+     * @param length The number of bytes to read. The range must lie within the object.
+     * @return The requested bytes.
+     */
+    public byte[] downloadRange(final String s3Key, final long offset, final int length) {
+        log.debug("Downloading bytes {}-{} of S3 key: {}", offset, offset + length - 1, s3Key);
+        final GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(bucketName).key(s3Key)
+                .range("bytes=" + offset + "-" + (offset + length - 1)).build();
+        return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+    }
+
 
     // ============================================================================================
     // ALL OTHER METHODS REMAIN UNCHANGED
@@ -163,12 +242,14 @@ public class S3StorageService {
             return switch (type) {
                 case "source" -> String.format("bulk/%s/%d/%s", type, jobId, safeFileName);
                 case "files", "gxFiles" -> String.format("bulk/files/%d/%s", jobId, safeFileName);
+                case "checkpoint" -> String.format("bulk/checkpoint/%d/%s", jobId, safeFileName);
                 default -> throw new IllegalArgumentException("Invalid S3 path type specified: " + type);
             };
         } else {
             return switch (type) {
                 case "source" -> String.format("%d/%s/%d/%s", gxBucketId, type, jobId, safeFileName);
                 case "files", "gxFiles" -> String.format("%d/files/%d/%s", gxBucketId, jobId, safeFileName);
+                case "checkpoint" -> String.format("%d/checkpoint/%d/%s", gxBucketId, jobId, safeFileName);
                 default -> throw new IllegalArgumentException("Invalid S3 path type specified: " + type);
             };
         }
@@ -194,14 +275,17 @@ public class S3StorageService {
         return s3Presigner.presignGetObject(presignRequest).url();
     }
 
+    /**
+     * Copies an object into the GX files prefix with a server-side (multipart, for large objects) copy.
+     *
+     * @param sizeBytes The object size if known, used for throughput reporting.
+     * @return The destination S3 key.
+     */
     public String copyToGxFiles(final String sourceKey, final String destFileName, final Integer gxBucketId,
-                                final long jobId) {
+                                final long jobId, @Nullable final Long sizeBytes) {
         final String destKey = constructS3Key(destFileName, gxBucketId, jobId, "gxFiles");
         log.info("Copying S3 object from '{}' to '{}'", sourceKey, destKey);
-        final CopyObjectRequest copyReq = CopyObjectRequest.builder().sourceBucket(bucketName).sourceKey(sourceKey)
-                .destinationBucket(bucketName).destinationKey(destKey)
-                .build();
-        s3Client.copyObject(copyReq);
+        s3CopyService.copy(new S3CopyService.CopyTask(sourceKey, destKey, sizeBytes));
         log.info("Successfully copied processed file from {} to {}", sourceKey, destKey);
         return destKey;
     }
@@ -0,0 +1,145 @@
+package com.eyelevel.documentprocessor.service.zip;
+
+import com.eyelevel.documentprocessor.model.ZipBucketMapping;
+import com.eyelevel.documentprocessor.model.ZipMaster;
+import com.eyelevel.documentprocessor.repository.ZipBucketMappingRepository;
+import com.eyelevel.documentprocessor.service.gx.GxBucketRegistryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the GX bucket of each top-level folder of a bulk-upload ZIP.
+ * <p>
+ * Before extraction starts, the folder names are read from the archive's central directory and every bucket
+ * that is not yet mapped is resolved concurrently through the {@link GxBucketRegistryService}, with up to
+ * {@code app.processing.zip-handler.bucket-creation-concurrency} resolutions in flight, so folders named like a
+ * bucket of an earlier job reuse that bucket. Each resolved bucket is recorded in {@code zip_bucket_mapping} right
+ * away, so a redelivered ingestion message reuses the buckets of the earlier attempt instead of resolving them again.
+ */
+@Slf4j
+@Service
+public class BulkBucketResolver {
+
+    private final GxBucketRegistryService bucketRegistry;
+    private final ZipBucketMappingRepository mappingRepository;
+    private final ZipCentralDirectoryReader centralDirectoryReader;
+    private final int creationConcurrency;
+
+    public BulkBucketResolver(final GxBucketRegistryService bucketRegistry,
+                              final ZipBucketMappingRepository mappingRepository,
+                              final ZipCentralDirectoryReader centralDirectoryReader,
+                              @Value("${app.processing.zip-handler.bucket-creation-concurrency}")
+                              final int creationConcurrency) {
+        this.bucketRegistry = bucketRegistry;
+        this.mappingRepository = mappingRepository;
+        this.centralDirectoryReader = centralDirectoryReader;
+        this.creationConcurrency = Math.max(1, creationConcurrency);
+    }
+
+    /**
+     * Returns the bucket folder an entry belongs to.
+     *
+     * @param normalizedPath The forward-slash-separated path of the entry within the archive.
+     * @return The top-level folder name, or {@code null} if the entry is at the archive root or in a hidden or
+     *         blank folder.
+     */
+    public static String bucketFolderOf(final String normalizedPath) {
+        final int separator = normalizedPath.indexOf('/');
+        if (separator == -1) {
+            return null;
+        }
+        final String folderName = normalizedPath.substring(0, separator);
+        return folderName.isBlank() || folderName.startsWith(".") ? null : folderName;
+    }
+
+    /**
+     * Makes sure every bucket folder of the archive has a GX bucket before its entries are extracted.
+     * <p>
+     * Folders whose bucket could not be created are left out of the result and resolved again through
+     * {@link #createAndRecord(Long, String)} when their first entry is extracted. If the central directory cannot
+     * be read, only the mappings recorded by earlier attempts are returned.
+     *
+     * @param zipMaster The bulk-upload archive.
+     * @return The bucket ID of each resolved folder.
+     */
+    public Map<String, Integer> resolveUpFront(final ZipMaster zipMaster) {
+        final Map<String, Integer> resolved = new HashMap<>();
+        mappingRepository.findAllByZipMasterId(zipMaster.getId())
+                         .forEach(mapping -> resolved.put(mapping.getFolderName(), mapping.getGxBucketId()));
+
+        final Set<String> folders = new LinkedHashSet<>();
+        try {
+            for (final String entryName : centralDirectoryReader.listEntryNames(zipMaster.getOriginalFilePath())) {
+                final String normalizedPath = entryName.replace('\\', '/');
+                final String folderName = bucketFolderOf(normalizedPath);
+                if (folderName != null && !ZipStreamProcessor.isSkippedPath(normalizedPath)) {
+                    folders.add(folderName);
+                }
+            }
+        } catch (final Exception e) {
+            log.warn("[BULK] Could not read the central directory of ZipMaster ID {}. Buckets will be created as "
+                     + "their folders are extracted.", zipMaster.getId(), e);
+            return resolved;
+        }
+
+        final List<String> missing = folders.stream().filter(folder -> !resolved.containsKey(folder)).toList();
+        log.info("[BULK] ZipMaster ID {} has {} bucket folder(s); {} already mapped, resolving {}.", zipMaster.getId(),
+                 folders.size(), folders.size() - missing.size(), missing.size());
+
+        final List<Map.Entry<String, Integer>> created = Flux.fromIterable(missing)
+                .flatMap(folder -> createAndRecord(zipMaster.getId(), folder)
+                        .map(bucketId -> Map.entry(folder, bucketId))
+                        .onErrorResume(e -> {
+                            log.warn("[BULK] Could not create the GX bucket for folder '{}' of ZipMaster ID {}: {}",
+                                     folder, zipMaster.getId(), e.getMessage());
+                            return Mono.empty();
+                        }), creationConcurrency)
+                .collectList()
+                .block();
+
+        if (created != null) {
+            created.forEach(entry -> resolved.put(entry.getKey(), entry.getValue()));
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolves the GX bucket for a folder, creating it if its name is not registered yet, and records the mapping.
+     * Nothing is sent until the returned {@link Mono} is subscribed.
+     *
+     * @return A {@link Mono} emitting the bucket ID recorded for the folder. If another attempt recorded the folder
+     *         first, its bucket ID is emitted instead.
+     */
+    public Mono<Integer> createAndRecord(final Long zipMasterId, final String folderName) {
+        return bucketRegistry.resolveBucketId(folderName)
+                             // Recording the mapping is a blocking JDBC call, so move it off the HTTP event loop.
+                             .publishOn(Schedulers.boundedElastic())
+                             .map(bucketId -> record(zipMasterId, folderName, bucketId));
+    }
+
+    private Integer record(final Long zipMasterId, final String folderName, final Integer bucketId) {
+        if (mappingRepository.insertIfAbsent(zipMasterId, folderName, bucketId) == 1) {
+            log.info("[BULK] Mapped folder '{}' of ZipMaster ID {} to GX bucket {}.", folderName, zipMasterId,
+                     bucketId);
+            return bucketId;
+        }
+        final Integer recordedBucketId = mappingRepository.findByZipMasterIdAndFolderName(zipMasterId, folderName)
+                                                          .map(ZipBucketMapping::getGxBucketId)
+                                                          .orElse(bucketId);
+        if (!recordedBucketId.equals(bucketId)) {
+            log.warn("[BULK] Folder '{}' of ZipMaster ID {} was already mapped to GX bucket {}; keeping it over {}.",
+                     folderName, zipMasterId, recordedBucketId, bucketId);
+        }
+        return recordedBucketId;
+    }
+}
@@ -0,0 +1,157 @@
+package com.eyelevel.documentprocessor.service.zip;
+
+import com.eyelevel.documentprocessor.service.s3.S3StorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipException;
+
+/**
+ * Lists the entries of a ZIP archive stored in S3 by reading only its central directory, using ranged
+ * {@code GetObject} requests for the end-of-central-directory record and the directory itself.
+ * <p>
+ * This lets the bulk-upload flow learn the folder layout of an archive before streaming it. ZIP64 archives are
+ * supported. Entry names are decoded as UTF-8, the same charset {@link java.util.zip.ZipInputStream} uses while
+ * extracting, so the names match the ones seen by {@link ZipStreamProcessor}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZipCentralDirectoryReader {
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_MIN_LENGTH = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_LENGTH = 20;
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_EOCD_LENGTH = 56;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_LENGTH = 46;
+    /**
+     * Central directories larger than this are not read; the caller falls back to discovering entries while
+     * streaming. At roughly 100 bytes per entry this still covers archives with several hundred thousand files.
+     */
+    private static final long MAX_CENTRAL_DIRECTORY_BYTES = 64L * 1024 * 1024;
+
+    private final S3StorageService s3StorageService;
+
+    private record CentralDirectoryLocation(long offset, long size, long entryCount) {
+    }
+
+    /**
+     * Reads the names of all entries in the archive, in central directory order.
+     *
+     * @param s3Key The S3 key of the ZIP archive.
+     * @return The raw entry names, including directory entries.
+     * @throws ZipException if the archive has no readable central directory.
+     */
+    public List<String> listEntryNames(final String s3Key) throws ZipException {
+        final long objectSize = s3StorageService.getObjectSize(s3Key);
+        if (objectSize < EOCD_MIN_LENGTH) {
+            throw new ZipException("Object is too small to be a ZIP archive: " + s3Key);
+        }
+
+        final int tailLength = (int) Math.min(objectSize, EOCD_MIN_LENGTH + MAX_COMMENT_LENGTH);
+        final long tailOffset = objectSize - tailLength;
+        final ByteBuffer tail = littleEndian(s3StorageService.downloadRange(s3Key, tailOffset, tailLength));
+
+        final CentralDirectoryLocation location = locateCentralDirectory(s3Key, tail, tailOffset);
+        if (location.size() > MAX_CENTRAL_DIRECTORY_BYTES) {
+            throw new ZipException("Central directory of " + location.size() + " bytes exceeds the read limit.");
+        }
+        if (location.offset() + location.size() > objectSize) {
+            throw new ZipException("Central directory lies outside the archive: " + s3Key);
+        }
+
+        final ByteBuffer directory;
+        if (location.offset() >= tailOffset) {
+            // Small archives: the whole directory is already in the tail that was just read.
+            directory = tail.duplicate().order(ByteOrder.LITTLE_ENDIAN)
+                            .position((int) (location.offset() - tailOffset))
+                            .limit((int) (location.offset() - tailOffset + location.size()))
+                            .slice().order(ByteOrder.LITTLE_ENDIAN);
+        } else {
+            directory = littleEndian(
+                    s3StorageService.downloadRange(s3Key, location.offset(), (int) location.size()));
+        }
+
+        final List<String> names = parseEntryNames(directory, location.entryCount());
+        log.debug("Read {} entry name(s) from the central directory of '{}'.", names.size(), s3Key);
+        return names;
+    }
+
+    private CentralDirectoryLocation locateCentralDirectory(final String s3Key, final ByteBuffer tail,
+                                                            final long tailOffset) throws ZipException {
+        // The record is followed only by the archive comment, so scan backwards from the last possible position.
+        int eocd = -1;
+        for (int i = tail.limit() - EOCD_MIN_LENGTH; i >= 0; i--) {
+            if (tail.getInt(i) == EOCD_SIGNATURE
+                && i + EOCD_MIN_LENGTH + Short.toUnsignedInt(tail.getShort(i + 20)) <= tail.limit()) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd == -1) {
+            throw new ZipException("End of central directory record not found: " + s3Key);
+        }
+
+        final long entryCount = Short.toUnsignedInt(tail.getShort(eocd + 10));
+        final long size = Integer.toUnsignedLong(tail.getInt(eocd + 12));
+        final long offset = Integer.toUnsignedLong(tail.getInt(eocd + 16));
+        if (entryCount != 0xFFFF && size != 0xFFFFFFFFL && offset != 0xFFFFFFFFL) {
+            return new CentralDirectoryLocation(offset, size, entryCount);
+        }
+
+        final int locator = eocd - ZIP64_LOCATOR_LENGTH;
+        if (locator < 0 || tail.getInt(locator) != ZIP64_LOCATOR_SIGNATURE) {
+            throw new ZipException("ZIP64 end of central directory locator not found: " + s3Key);
+        }
+        final long zip64EocdOffset = tail.getLong(locator + 8);
+        final ByteBuffer zip64Eocd = zip64EocdOffset >= tailOffset
+                                     ? tail.duplicate().order(ByteOrder.LITTLE_ENDIAN)
+                                           .position((int) (zip64EocdOffset - tailOffset)).slice()
+                                           .order(ByteOrder.LITTLE_ENDIAN)
+                                     : littleEndian(s3StorageService.downloadRange(s3Key, zip64EocdOffset,
+                                                                                   ZIP64_EOCD_LENGTH));
+        if (zip64Eocd.limit() < ZIP64_EOCD_LENGTH || zip64Eocd.getInt(0) != ZIP64_EOCD_SIGNATURE) {
+            throw new ZipException("ZIP64 end of central directory record not found: " + s3Key);
+        }
+        return new CentralDirectoryLocation(zip64Eocd.getLong(48), zip64Eocd.getLong(40), zip64Eocd.getLong(32));
+    }
+
+    private List<String> parseEntryNames(final ByteBuffer directory, final long entryCount) throws ZipException {
+        final List<String> names = new ArrayList<>((int) Math.min(entryCount, 100_000));
+        int position = 0;
+        while (position + CENTRAL_HEADER_LENGTH <= directory.limit()) {
+            if (directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Corrupt central directory at offset " + position + ".");
+            }
+            final int nameLength = Short.toUnsignedInt(directory.getShort(position + 28));
+            final int extraLength = Short.toUnsignedInt(directory.getShort(position + 30));
+            final int commentLength = Short.toUnsignedInt(directory.getShort(position + 32));
+            if (position + CENTRAL_HEADER_LENGTH + nameLength > directory.limit()) {
+                throw new ZipException("Truncated central directory entry at offset " + position + ".");
+            }
+
+            final byte[] name = new byte[nameLength];
+            directory.get(position + CENTRAL_HEADER_LENGTH, name);
+            names.add(new String(name, StandardCharsets.UTF_8));
+            position += CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+        }
+        if (names.size() != entryCount) {
+            log.warn("Central directory declares {} entries but {} were read.", entryCount, names.size());
+        }
+        return names;
+    }
+
+    private static ByteBuffer littleEndian(final byte[] bytes) {
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -1,7 +1,5 @@
 package com.eyelevel.documentprocessor.service.zip;
 
-import com.eyelevel.documentprocessor.common.apiclient.gx.GXApiClient;
-import com.eyelevel.documentprocessor.dto.gx.creategxbucket.response.GXBucket;
 import com.eyelevel.documentprocessor.exception.DocumentProcessingException;
 import com.eyelevel.documentprocessor.exception.MessageProcessingFailedException;
 import com.eyelevel.documentprocessor.model.*;
@@ -21,6 +19,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -49,7 +48,7 @@ public class ZipIngestionService {
     private final FileMasterRepository fileMasterRepository;
     private final S3StorageService s3StorageService;
     private final ValidationService validationService;
-    private final GXApiClient gxApiClient;
+    private final BulkBucketResolver bulkBucketResolver;
     private final ZipStreamProcessor zipStreamProcessor;
     private final FileMasterAtomicService fileMasterAtomicService;
     private final AsyncTaskManager asyncTaskManager;
@@ -60,7 +59,7 @@ public class ZipIngestionService {
                                FileMasterRepository fileMasterRepository,
                                S3StorageService s3StorageService,
                                ValidationService validationService,
-                               GXApiClient gxApiClient,
+                               BulkBucketResolver bulkBucketResolver,
                                ZipStreamProcessor zipStreamProcessor,
                                FileMasterAtomicService fileMasterAtomicService,
                                AsyncTaskManager asyncTaskManager,
@@ -69,7 +68,7 @@ public class ZipIngestionService {
         this.fileMasterRepository = fileMasterRepository;
         this.s3StorageService = s3StorageService;
         this.validationService = validationService;
-        this.gxApiClient = gxApiClient;
+        this.bulkBucketResolver = bulkBucketResolver;
         this.zipStreamProcessor = zipStreamProcessor;
         this.fileMasterAtomicService = fileMasterAtomicService;
         this.asyncTaskManager = asyncTaskManager; // <-- NEW DEPENDENCY
@@ -182,7 +181,11 @@ public class ZipIngestionService {
 
     private void processZipStreamConcurrently(ZipMaster zipMaster) throws IOException {
         final Semaphore semaphore = new Semaphore(concurrencyLimit);
-        final Map<String, GXBucket> bucketCache = new ConcurrentHashMap<>();
+        final Map<String, Mono<Integer>> bucketCache = new ConcurrentHashMap<>();
+        if (zipMaster.getProcessingJob().isBulkUpload()) {
+            bulkBucketResolver.resolveUpFront(zipMaster)
+                    .forEach((folderName, bucketId) -> bucketCache.put(folderName, Mono.just(bucketId)));
+        }
 
         try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
              InputStream s3InputStream = s3StorageService.downloadStream(zipMaster.getOriginalFilePath())) {
@@ -194,7 +197,7 @@ public class ZipIngestionService {
         }
     }
 
-    private void submitEntryForProcessing(ZipStreamProcessor.ZipEntryWorkItem item, ZipMaster zipMaster, Map<String, GXBucket> bucketCache, ExecutorService executor, Semaphore semaphore) {
+    private void submitEntryForProcessing(ZipStreamProcessor.ZipEntryWorkItem item, ZipMaster zipMaster, Map<String, Mono<Integer>> bucketCache, ExecutorService executor, Semaphore semaphore) {
         try {
             semaphore.acquire();
             log.debug("Acquired permit for entry: {}. Remaining permits: {}", item.normalizedPath(), semaphore.availablePermits());
@@ -218,10 +221,10 @@ public class ZipIngestionService {
         }
     }
 
-    private void processSingleEntry(ZipStreamProcessor.ZipEntryWorkItem item, ZipMaster zipMaster, Map<String, GXBucket> bucketCache) {
+    private void processSingleEntry(ZipStreamProcessor.ZipEntryWorkItem item, ZipMaster zipMaster, Map<String, Mono<Integer>> bucketCache) {
         final ProcessingJob job = zipMaster.getProcessingJob();
         final Integer gxBucketId = job.isBulkUpload()
-                ? getBucketIdForBulkUpload(item.normalizedPath(), bucketCache)
+                ? getBucketIdForBulkUpload(item.normalizedPath(), zipMaster.getId(), bucketCache)
                 : zipMaster.getGxBucketId();
 
         if (gxBucketId != null) {
@@ -249,18 +252,22 @@ public class ZipIngestionService {
         }
     }
 
-    private Integer getBucketIdForBulkUpload(String entryName, Map<String, GXBucket> bucketCache) {
-        final int separator = entryName.indexOf('/');
-        if (separator == -1) {
+    private Integer getBucketIdForBulkUpload(String entryName, Long zipMasterId, Map<String, Mono<Integer>> bucketCache) {
+        if (entryName.indexOf('/') == -1) {
             log.warn("[BULK] Skipping root-level file '{}' as it's not in a bucket folder.", entryName);
             return null;
         }
-        final String bucketName = entryName.substring(0, separator);
-        if (bucketName.isBlank() || bucketName.startsWith(".")) {
+        final String bucketName = BulkBucketResolver.bucketFolderOf(entryName);
+        if (bucketName == null) {
             log.warn("[BULK] Skipping hidden/blank bucket for file '{}'", entryName);
             return null;
         }
-        return bucketCache.computeIfAbsent(bucketName, gxApiClient::createGXBucket).bucket().bucketId();
+        // Buckets are normally resolved before extraction starts. A folder whose up-front creation failed is
+        // retried here; entries of that folder share one in-flight request, and a failed one is evicted so the
+        // next entry retries it instead of replaying the cached error.
+        return bucketCache.computeIfAbsent(bucketName, name -> bulkBucketResolver.createAndRecord(zipMasterId, name)
+                .doOnError(e -> bucketCache.remove(name))
+                .cache()).block();
     }
 
     private FileMaster buildFileMaster(ProcessingJob job, Integer gxBucketId, ZipMaster zipMaster, String fileName, long fileSize, String extension, String fileHash, String s3Key) {
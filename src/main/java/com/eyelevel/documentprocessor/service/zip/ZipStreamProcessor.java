@@ -119,8 +119,19 @@ public class ZipStreamProcessor {
      * @return {@code true} if the entry should be skipped, {@code false} otherwise.
      */
     private boolean shouldSkipEntry(final ZipEntry entry, final String normalizedPath) {
+        return entry.isDirectory() || isSkippedPath(normalizedPath);
+    }
+
+    /**
+     * Applies the entry filter of {@link #processStream} to a path alone, for callers that list the archive
+     * without streaming it.
+     *
+     * @param normalizedPath The forward-slash-separated path of the entry.
+     * @return {@code true} if an entry with this path would be skipped, {@code false} otherwise.
+     */
+    public static boolean isSkippedPath(final String normalizedPath) {
         // Skip directories and entries that end with a slash.
-        if (entry.isDirectory() || normalizedPath.endsWith("/")) {
+        if (normalizedPath.endsWith("/")) {
             return true;
         }
 
@@ -15,20 +15,24 @@ import java.time.LocalDateTime;
 /**
  * Represents a read-only, consolidated view of a document's processing status.
  * <p>
- * This entity is mapped to the {@code document_processing_view} database view, which aggregates
- * data from multiple tables to provide a simplified and performant way to query the state
- * of documents in the processing pipeline. As a view, it is immutable.
+ * This entity is mapped to the {@code document_status} table, a denormalized copy of the
+ * {@code document_processing_view} database view that database triggers keep up to date as
+ * {@code file_master} and {@code gx_master} records change. Unlike the view, its rows have stable IDs and
+ * are indexed by bucket, status and creation time, so listing a bucket does not aggregate the whole
+ * pipeline. The application never writes to it, so the entity is immutable.
  */
 @Getter
 @Entity
 @Immutable
-@Table(name = "document_processing_view")
+@Table(name = "document_status")
 @NoArgsConstructor
 @AllArgsConstructor
 public class DocumentProcessingView implements BaseEntity {
 
     /**
-     * The unique identifier for the view record.
+     * The unique identifier for the record. It stays the same for as long as the document is listed. Unlike the
+     * row number {@code document_processing_view} assigned, it is not a position in newest-first order, so
+     * listings that need that order sort by {@code createdAt} instead.
      */
     @Id
     private Long id;
@@ -93,6 +97,6 @@ public class DocumentProcessingView implements BaseEntity {
     /**
      * The timestamp when the document record was created.
      */
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -38,6 +38,7 @@ FROM (
             WHEN 'IN_ACTIVE'          THEN 'Inactive (GroundX)'
             WHEN 'SKIPPED'            THEN 'Skipped'
             WHEN 'QUEUED_FOR_UPLOAD'  THEN 'Queued for Upload'
+            WHEN 'UPLOADING'          THEN 'Uploading (GroundX)'
             WHEN 'QUEUED'             THEN 'Queued (GroundX)'
             WHEN 'PROCESSING'         THEN 'Processing (GroundX)'
             WHEN 'ERROR'              THEN 'Error (GroundX)'
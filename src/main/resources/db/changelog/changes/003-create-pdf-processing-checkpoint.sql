@@ -0,0 +1,16 @@
+--liquibase formatted sql
+
+--changeset app.user:create-pdf-processing-checkpoint id:003
+--comment: Stores resumable progress for large PDFs so retries skip optimization and already-split chunks.
+
+CREATE TABLE pdf_processing_checkpoint
+(
+    file_master_id          BIGINT PRIMARY KEY,
+    optimized_file_location VARCHAR(1024) NOT NULL,
+    total_pages             INTEGER       NOT NULL,
+    pages_per_chunk         INTEGER       NOT NULL,
+    completed_chunks        INTEGER       NOT NULL DEFAULT 0,
+    created_at              TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at              TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT fk_pdf_checkpoint_file_master FOREIGN KEY (file_master_id) REFERENCES file_master (id) ON DELETE CASCADE
+);
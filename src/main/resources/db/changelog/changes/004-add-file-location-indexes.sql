@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset app.user:add-file-location-indexes id:004
+--comment: Supports reference counting of S3 objects shared between file_master and passthrough gx_master rows.
+
+CREATE INDEX idx_file_master_file_location ON file_master (file_location);
+
+CREATE INDEX idx_gx_master_file_location ON gx_master (file_location);
@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+--changeset app.user:add-gx-upload-claim id:005
+--comment: Records when a GX upload was claimed so that claims abandoned by a crashed instance can be reclaimed.
+
+ALTER TABLE gx_master ADD COLUMN upload_claimed_at TIMESTAMP WITHOUT TIME ZONE;
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset app.user:add-gx-polling-schedule id:006
+--comment: Per-document GX status polling schedule and the submission/completion times used to estimate it.
+
+ALTER TABLE gx_master ADD COLUMN next_poll_at TIMESTAMP WITHOUT TIME ZONE;
+ALTER TABLE gx_master ADD COLUMN poll_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE gx_master ADD COLUMN gx_submitted_at TIMESTAMP WITHOUT TIME ZONE;
+ALTER TABLE gx_master ADD COLUMN gx_completed_at TIMESTAMP WITHOUT TIME ZONE;
+
+CREATE INDEX idx_gx_master_next_poll_at
+    ON gx_master (next_poll_at)
+    WHERE gx_status IN ('QUEUED', 'PROCESSING');
+
+CREATE INDEX idx_gx_master_completed_at
+    ON gx_master (gx_completed_at)
+    WHERE gx_status = 'COMPLETE';
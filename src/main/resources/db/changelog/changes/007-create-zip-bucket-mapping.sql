@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset app.user:create-zip-bucket-mapping id:007
+--comment: Records the GX bucket created for each top-level folder of a bulk ZIP so a redelivered message reuses it.
+
+CREATE TABLE zip_bucket_mapping
+(
+    id            BIGSERIAL PRIMARY KEY,
+    zip_master_id BIGINT       NOT NULL,
+    folder_name   VARCHAR(255) NOT NULL,
+    gx_bucket_id  INTEGER      NOT NULL,
+    created_at    TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_zip_bucket_mapping_folder UNIQUE (zip_master_id, folder_name),
+    CONSTRAINT fk_zip_bucket_mapping_zip_master FOREIGN KEY (zip_master_id) REFERENCES zip_master (id) ON DELETE CASCADE
+);
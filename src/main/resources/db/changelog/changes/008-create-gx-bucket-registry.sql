@@ -0,0 +1,14 @@
+--liquibase formatted sql
+
+--changeset app.user:create-gx-bucket-registry id:008
+--comment: Maps GX bucket names to bucket IDs across jobs. A row without a bucket ID is a creation claim held by one node.
+
+CREATE TABLE gx_bucket_registry
+(
+    bucket_name  VARCHAR(255) PRIMARY KEY,
+    gx_bucket_id INTEGER,
+    claim_token  VARCHAR(64),
+    claimed_at   TIMESTAMP WITHOUT TIME ZONE,
+    created_at   TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at   TIMESTAMP WITHOUT TIME ZONE
+);
@@ -0,0 +1,124 @@
+--liquibase formatted sql
+
+--changeset app.user:create-job-progress id:009 splitStatements:false
+--comment: Per-job counters of outstanding ZIP, file and GX work, maintained by triggers as child statuses change.
+
+CREATE TABLE job_progress
+(
+    job_id        BIGINT PRIMARY KEY,
+    pending_zips  INTEGER NOT NULL DEFAULT 0,
+    pending_files INTEGER NOT NULL DEFAULT 0,
+    pending_gx    INTEGER NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_job_progress_processing_job FOREIGN KEY (job_id) REFERENCES processing_job (id) ON DELETE CASCADE
+);
+
+-- The pending sets below must match ProcessingJob.finalizeSettledJobs.native.
+CREATE OR REPLACE FUNCTION job_progress_apply(p_job_id BIGINT, p_zips INTEGER, p_files INTEGER, p_gx INTEGER)
+    RETURNS VOID AS
+$$
+BEGIN
+    IF p_job_id IS NULL OR (p_zips = 0 AND p_files = 0 AND p_gx = 0) THEN
+        RETURN;
+    END IF;
+    INSERT INTO job_progress (job_id, pending_zips, pending_files, pending_gx, updated_at)
+    VALUES (p_job_id, p_zips, p_files, p_gx, CURRENT_TIMESTAMP)
+    ON CONFLICT (job_id) DO UPDATE
+        SET pending_zips  = job_progress.pending_zips + EXCLUDED.pending_zips,
+            pending_files = job_progress.pending_files + EXCLUDED.pending_files,
+            pending_gx    = job_progress.pending_gx + EXCLUDED.pending_gx,
+            updated_at    = CURRENT_TIMESTAMP;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION zip_master_job_progress() RETURNS TRIGGER AS
+$$
+DECLARE
+    delta INTEGER := 0;
+BEGIN
+    IF TG_OP <> 'INSERT' AND OLD.zip_processing_status IN ('QUEUED_FOR_EXTRACTION', 'EXTRACTION_IN_PROGRESS') THEN
+        delta := delta - 1;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.zip_processing_status IN ('QUEUED_FOR_EXTRACTION', 'EXTRACTION_IN_PROGRESS') THEN
+        delta := delta + 1;
+    END IF;
+    PERFORM job_progress_apply(CASE WHEN TG_OP = 'DELETE' THEN OLD.processing_job_id ELSE NEW.processing_job_id END,
+                               delta, 0, 0);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION file_master_job_progress() RETURNS TRIGGER AS
+$$
+DECLARE
+    delta INTEGER := 0;
+BEGIN
+    IF TG_OP <> 'INSERT' AND OLD.file_processing_status IN ('QUEUED', 'IN_PROGRESS') THEN
+        delta := delta - 1;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.file_processing_status IN ('QUEUED', 'IN_PROGRESS') THEN
+        delta := delta + 1;
+    END IF;
+    PERFORM job_progress_apply(CASE WHEN TG_OP = 'DELETE' THEN OLD.processing_job_id ELSE NEW.processing_job_id END,
+                               0, delta, 0);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION gx_master_job_progress() RETURNS TRIGGER AS
+$$
+DECLARE
+    delta    INTEGER := 0;
+    v_job_id BIGINT;
+BEGIN
+    IF TG_OP <> 'INSERT' AND OLD.gx_status IN ('QUEUED_FOR_UPLOAD', 'UPLOADING', 'QUEUED', 'PROCESSING', 'ERROR') THEN
+        delta := delta - 1;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.gx_status IN ('QUEUED_FOR_UPLOAD', 'UPLOADING', 'QUEUED', 'PROCESSING', 'ERROR') THEN
+        delta := delta + 1;
+    END IF;
+    IF delta <> 0 THEN
+        SELECT f.processing_job_id INTO v_job_id
+        FROM file_master f
+        WHERE f.id = CASE WHEN TG_OP = 'DELETE' THEN OLD.source_file_id ELSE NEW.source_file_id END;
+        PERFORM job_progress_apply(v_job_id, 0, 0, delta);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_zip_master_job_progress
+    AFTER INSERT OR DELETE OR UPDATE OF zip_processing_status
+    ON zip_master
+    FOR EACH ROW
+EXECUTE FUNCTION zip_master_job_progress();
+
+CREATE TRIGGER trg_file_master_job_progress
+    AFTER INSERT OR DELETE OR UPDATE OF file_processing_status
+    ON file_master
+    FOR EACH ROW
+EXECUTE FUNCTION file_master_job_progress();
+
+CREATE TRIGGER trg_gx_master_job_progress
+    AFTER INSERT OR DELETE OR UPDATE OF gx_status
+    ON gx_master
+    FOR EACH ROW
+EXECUTE FUNCTION gx_master_job_progress();
+
+-- Backfill the counters of existing jobs.
+INSERT INTO job_progress (job_id, pending_zips, pending_files, pending_gx)
+SELECT j.id,
+       (SELECT COUNT(*)
+        FROM zip_master z
+        WHERE z.processing_job_id = j.id
+          AND z.zip_processing_status IN ('QUEUED_FOR_EXTRACTION', 'EXTRACTION_IN_PROGRESS')),
+       (SELECT COUNT(*)
+        FROM file_master f
+        WHERE f.processing_job_id = j.id
+          AND f.file_processing_status IN ('QUEUED', 'IN_PROGRESS')),
+       (SELECT COUNT(*)
+        FROM gx_master g
+                 JOIN file_master f ON f.id = g.source_file_id
+        WHERE f.processing_job_id = j.id
+          AND g.gx_status IN ('QUEUED_FOR_UPLOAD', 'UPLOADING', 'QUEUED', 'PROCESSING', 'ERROR'))
+FROM processing_job j;
@@ -0,0 +1,99 @@
+--liquibase formatted sql
+
+--changeset app.user:add-job-progress-dirty-tracking id:010 splitStatements:false
+--comment: Records when a job's children last changed and when the lifecycle scheduler last evaluated the job.
+
+ALTER TABLE job_progress
+    ADD COLUMN last_child_change_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ADD COLUMN last_evaluated_at    TIMESTAMP WITHOUT TIME ZONE;
+
+-- Only jobs changed since their last evaluation are revisited, so keep them in a small index of their own.
+CREATE INDEX idx_job_progress_dirty ON job_progress (job_id)
+    WHERE last_evaluated_at IS NULL OR last_child_change_at >= last_evaluated_at;
+
+-- Every child status change now marks the job as changed, including terminal-to-terminal moves that leave the
+-- counters alone. clock_timestamp() is used so that the mark reflects the write, not the start of a long transaction.
+CREATE OR REPLACE FUNCTION job_progress_apply(p_job_id BIGINT, p_zips INTEGER, p_files INTEGER, p_gx INTEGER)
+    RETURNS VOID AS
+$$
+BEGIN
+    IF p_job_id IS NULL THEN
+        RETURN;
+    END IF;
+    INSERT INTO job_progress (job_id, pending_zips, pending_files, pending_gx, updated_at, last_child_change_at)
+    VALUES (p_job_id, p_zips, p_files, p_gx, CURRENT_TIMESTAMP, clock_timestamp())
+    ON CONFLICT (job_id) DO UPDATE
+        SET pending_zips         = job_progress.pending_zips + EXCLUDED.pending_zips,
+            pending_files        = job_progress.pending_files + EXCLUDED.pending_files,
+            pending_gx           = job_progress.pending_gx + EXCLUDED.pending_gx,
+            updated_at           = CASE
+                                       WHEN EXCLUDED.pending_zips = 0 AND EXCLUDED.pending_files = 0
+                                           AND EXCLUDED.pending_gx = 0 THEN job_progress.updated_at
+                                       ELSE CURRENT_TIMESTAMP
+                                   END,
+            last_child_change_at = clock_timestamp();
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION gx_master_job_progress() RETURNS TRIGGER AS
+$$
+DECLARE
+    delta    INTEGER := 0;
+    v_job_id BIGINT;
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.gx_status IS NOT DISTINCT FROM NEW.gx_status THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' AND OLD.gx_status IN ('QUEUED_FOR_UPLOAD', 'UPLOADING', 'QUEUED', 'PROCESSING', 'ERROR') THEN
+        delta := delta - 1;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.gx_status IN ('QUEUED_FOR_UPLOAD', 'UPLOADING', 'QUEUED', 'PROCESSING', 'ERROR') THEN
+        delta := delta + 1;
+    END IF;
+    SELECT f.processing_job_id INTO v_job_id
+    FROM file_master f
+    WHERE f.id = CASE WHEN TG_OP = 'DELETE' THEN OLD.source_file_id ELSE NEW.source_file_id END;
+    PERFORM job_progress_apply(v_job_id, 0, 0, delta);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION zip_master_job_progress() RETURNS TRIGGER AS
+$$
+DECLARE
+    delta INTEGER := 0;
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.zip_processing_status IS NOT DISTINCT FROM NEW.zip_processing_status THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' AND OLD.zip_processing_status IN ('QUEUED_FOR_EXTRACTION', 'EXTRACTION_IN_PROGRESS') THEN
+        delta := delta - 1;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.zip_processing_status IN ('QUEUED_FOR_EXTRACTION', 'EXTRACTION_IN_PROGRESS') THEN
+        delta := delta + 1;
+    END IF;
+    PERFORM job_progress_apply(CASE WHEN TG_OP = 'DELETE' THEN OLD.processing_job_id ELSE NEW.processing_job_id END,
+                               delta, 0, 0);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION file_master_job_progress() RETURNS TRIGGER AS
+$$
+DECLARE
+    delta INTEGER := 0;
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.file_processing_status IS NOT DISTINCT FROM NEW.file_processing_status THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' AND OLD.file_processing_status IN ('QUEUED', 'IN_PROGRESS') THEN
+        delta := delta - 1;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.file_processing_status IN ('QUEUED', 'IN_PROGRESS') THEN
+        delta := delta + 1;
+    END IF;
+    PERFORM job_progress_apply(CASE WHEN TG_OP = 'DELETE' THEN OLD.processing_job_id ELSE NEW.processing_job_id END,
+                               0, delta, 0);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,34 @@
+--liquibase formatted sql
+
+--changeset app.user:add-hot-path-indexes id:011
+--comment: Indexes for the foreign keys and status filters read on every scheduler tick and job lookup.
+
+-- FileMasterRepository.findAllByProcessingJobId, the job_progress counters and job finalization.
+-- The status is included so that per-job status counts can be answered from the index alone.
+CREATE INDEX idx_file_master_processing_job_id
+    ON file_master (processing_job_id, file_processing_status);
+
+-- Joins from file_master to its archive in document_processing_view, and cascading deletes of zip_master.
+CREATE INDEX idx_file_master_zip_master_id
+    ON file_master (zip_master_id);
+
+-- GxMasterRepository.findBySourceFileId, the join to file_master in every per-job GX query, and the
+-- job_progress trigger on gx_master.
+CREATE INDEX idx_gx_master_source_file_id
+    ON gx_master (source_file_id) INCLUDE (gx_status);
+
+-- findByGxStatusOrderByCreatedAtAsc, countByGxStatusIn and the upload claim query. Only records that are still
+-- moving through GX are indexed; completed and failed records make up most of the table and are never scanned
+-- by status.
+CREATE INDEX idx_gx_master_active_status_created_at
+    ON gx_master (gx_status, created_at)
+    WHERE gx_status IN ('QUEUED_FOR_UPLOAD', 'UPLOADING', 'QUEUED', 'PROCESSING', 'ERROR');
+
+-- GxMasterRepository.releaseStaleUploadClaims.
+CREATE INDEX idx_gx_master_upload_claimed_at
+    ON gx_master (upload_claimed_at)
+    WHERE gx_status = 'UPLOADING';
+
+-- ProcessingJobRepository.findByStatusIn, findByStatusAndCreatedAtBefore and the finalization candidates.
+CREATE INDEX idx_processing_job_status_created_at
+    ON processing_job (status, created_at);
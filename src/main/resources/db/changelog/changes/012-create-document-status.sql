@@ -0,0 +1,225 @@
+--liquibase formatted sql
+
+--changeset app.user:create-document-status id:012 splitStatements:false
+--comment: Denormalized, trigger-maintained copy of document_processing_view with stable IDs, indexed for listing by bucket.
+
+-- One row per gx_master record, plus one 'Ingestion' row per file that has no gx_master record yet and has not
+-- completed ingestion; the same rows document_processing_view produces.
+CREATE TABLE document_status
+(
+    id                BIGSERIAL PRIMARY KEY,
+    file_master_id    BIGINT       NOT NULL,
+    gx_master_id      BIGINT,
+    zip_file_name     VARCHAR(255),
+    display_file_name VARCHAR(255),
+    extension         VARCHAR(255),
+    file_size         BIGINT,
+    gx_bucket_id      INTEGER,
+    processing_stage  VARCHAR(255) NOT NULL,
+    source_status     VARCHAR(255),
+    display_status    VARCHAR(255) NOT NULL,
+    error             TEXT,
+    created_at        TIMESTAMP WITHOUT TIME ZONE,
+    updated_at        TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_document_status_file_master FOREIGN KEY (file_master_id) REFERENCES file_master (id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX uq_document_status_gx_master
+    ON document_status (gx_master_id)
+    WHERE gx_master_id IS NOT NULL;
+
+CREATE UNIQUE INDEX uq_document_status_ingestion
+    ON document_status (file_master_id)
+    WHERE gx_master_id IS NULL;
+
+-- Listing a bucket newest first, optionally narrowed to one status, in (created_at, id) order.
+CREATE INDEX idx_document_status_bucket_created
+    ON document_status (gx_bucket_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_document_status_bucket_status_created
+    ON document_status (gx_bucket_id, display_status, created_at DESC, id DESC);
+
+-- The display labels must match document_processing_view.
+CREATE OR REPLACE FUNCTION document_status_gx_label(p_status VARCHAR) RETURNS VARCHAR AS
+$$
+SELECT CASE p_status
+           WHEN 'COMPLETE' THEN 'Completed'
+           WHEN 'ACTIVE' THEN 'Active (GroundX)'
+           WHEN 'IN_ACTIVE' THEN 'Inactive (GroundX)'
+           WHEN 'SKIPPED' THEN 'Skipped'
+           WHEN 'QUEUED_FOR_UPLOAD' THEN 'Queued for Upload'
+           WHEN 'UPLOADING' THEN 'Uploading (GroundX)'
+           WHEN 'QUEUED' THEN 'Queued (GroundX)'
+           WHEN 'PROCESSING' THEN 'Processing (GroundX)'
+           WHEN 'ERROR' THEN 'Error (GroundX)'
+           WHEN 'CANCELLED' THEN 'Cancelled (GroundX)'
+           WHEN 'TERMINATED' THEN 'Terminated (GroundX)'
+           ELSE 'Unknown'
+       END;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION document_status_ingestion_label(p_status VARCHAR) RETURNS VARCHAR AS
+$$
+SELECT CASE p_status
+           WHEN 'QUEUED' THEN 'Queued (Ingestion)'
+           WHEN 'IN_PROGRESS' THEN 'Processing (Ingestion)'
+           WHEN 'FAILED' THEN 'Error (Ingestion)'
+           WHEN 'DUPLICATE' THEN 'Duplicate'
+           WHEN 'IGNORED' THEN 'Ignored'
+           WHEN 'TERMINATED' THEN 'Terminated (Ingestion)'
+           ELSE 'Unknown'
+       END;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Rebuilds the row of one gx_master record from its current state.
+CREATE OR REPLACE FUNCTION document_status_refresh_gx(p_gx_master_id BIGINT) RETURNS VOID AS
+$$
+BEGIN
+    INSERT INTO document_status (file_master_id, gx_master_id, zip_file_name, display_file_name, extension,
+                                 file_size, gx_bucket_id, processing_stage, source_status, display_status, error,
+                                 created_at, updated_at)
+    SELECT fm.id, gm.id, zm.original_file_name, gm.processed_file_name, gm.extension, gm.file_size,
+           gm.gx_bucket_id, 'GroundX Processing', gm.gx_status, document_status_gx_label(gm.gx_status),
+           gm.error_message, gm.created_at, CURRENT_TIMESTAMP
+    FROM gx_master gm
+             JOIN file_master fm ON fm.id = gm.source_file_id
+             LEFT JOIN zip_master zm ON zm.id = fm.zip_master_id
+    WHERE gm.id = p_gx_master_id
+    ON CONFLICT (gx_master_id) WHERE gx_master_id IS NOT NULL DO UPDATE
+        SET file_master_id    = EXCLUDED.file_master_id,
+            zip_file_name     = EXCLUDED.zip_file_name,
+            display_file_name = EXCLUDED.display_file_name,
+            extension         = EXCLUDED.extension,
+            file_size         = EXCLUDED.file_size,
+            gx_bucket_id      = EXCLUDED.gx_bucket_id,
+            source_status     = EXCLUDED.source_status,
+            display_status    = EXCLUDED.display_status,
+            error             = EXCLUDED.error,
+            updated_at        = CURRENT_TIMESTAMP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Adds, updates or removes the 'Ingestion' row of one file, depending on whether it still belongs in the listing.
+CREATE OR REPLACE FUNCTION document_status_refresh_ingestion(p_file_master_id BIGINT) RETURNS VOID AS
+$$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM gx_master gm WHERE gm.source_file_id = p_file_master_id) THEN
+        INSERT INTO document_status (file_master_id, gx_master_id, zip_file_name, display_file_name, extension,
+                                     file_size, gx_bucket_id, processing_stage, source_status, display_status, error,
+                                     created_at, updated_at)
+        SELECT fm.id, NULL, zm.original_file_name, fm.file_name, fm.extension, fm.file_size, fm.gx_bucket_id,
+               'Ingestion', fm.file_processing_status, document_status_ingestion_label(fm.file_processing_status),
+               fm.error_message, fm.created_at, CURRENT_TIMESTAMP
+        FROM file_master fm
+                 LEFT JOIN zip_master zm ON zm.id = fm.zip_master_id
+        WHERE fm.id = p_file_master_id
+          AND fm.file_processing_status <> 'COMPLETED'
+        ON CONFLICT (file_master_id) WHERE gx_master_id IS NULL DO UPDATE
+            SET zip_file_name     = EXCLUDED.zip_file_name,
+                display_file_name = EXCLUDED.display_file_name,
+                extension         = EXCLUDED.extension,
+                file_size         = EXCLUDED.file_size,
+                gx_bucket_id      = EXCLUDED.gx_bucket_id,
+                source_status     = EXCLUDED.source_status,
+                display_status    = EXCLUDED.display_status,
+                error             = EXCLUDED.error,
+                updated_at        = CURRENT_TIMESTAMP;
+        IF FOUND THEN
+            RETURN;
+        END IF;
+    END IF;
+    DELETE FROM document_status WHERE file_master_id = p_file_master_id AND gx_master_id IS NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION file_master_document_status() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM document_status_refresh_ingestion(NEW.id);
+    IF TG_OP = 'UPDATE' AND OLD.zip_master_id IS DISTINCT FROM NEW.zip_master_id THEN
+        UPDATE document_status ds
+        SET zip_file_name = (SELECT zm.original_file_name FROM zip_master zm WHERE zm.id = NEW.zip_master_id),
+            updated_at    = CURRENT_TIMESTAMP
+        WHERE ds.file_master_id = NEW.id
+          AND ds.gx_master_id IS NOT NULL;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION gx_master_document_status() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM document_status WHERE gx_master_id = OLD.id;
+        PERFORM document_status_refresh_ingestion(OLD.source_file_id);
+        RETURN NULL;
+    END IF;
+    PERFORM document_status_refresh_gx(NEW.id);
+    IF TG_OP = 'INSERT' OR OLD.source_file_id IS DISTINCT FROM NEW.source_file_id THEN
+        PERFORM document_status_refresh_ingestion(NEW.source_file_id);
+    END IF;
+    IF TG_OP = 'UPDATE' AND OLD.source_file_id IS DISTINCT FROM NEW.source_file_id THEN
+        PERFORM document_status_refresh_ingestion(OLD.source_file_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Hibernate writes every column on update, so the update triggers only fire when a listed value actually changes.
+CREATE TRIGGER trg_file_master_document_status_insert
+    AFTER INSERT
+    ON file_master
+    FOR EACH ROW
+EXECUTE FUNCTION file_master_document_status();
+
+CREATE TRIGGER trg_file_master_document_status_update
+    AFTER UPDATE
+    ON file_master
+    FOR EACH ROW
+    WHEN (OLD.file_processing_status IS DISTINCT FROM NEW.file_processing_status
+        OR OLD.file_name IS DISTINCT FROM NEW.file_name
+        OR OLD.extension IS DISTINCT FROM NEW.extension
+        OR OLD.file_size IS DISTINCT FROM NEW.file_size
+        OR OLD.gx_bucket_id IS DISTINCT FROM NEW.gx_bucket_id
+        OR OLD.error_message IS DISTINCT FROM NEW.error_message
+        OR OLD.zip_master_id IS DISTINCT FROM NEW.zip_master_id)
+EXECUTE FUNCTION file_master_document_status();
+
+CREATE TRIGGER trg_gx_master_document_status_insert_delete
+    AFTER INSERT OR DELETE
+    ON gx_master
+    FOR EACH ROW
+EXECUTE FUNCTION gx_master_document_status();
+
+CREATE TRIGGER trg_gx_master_document_status_update
+    AFTER UPDATE
+    ON gx_master
+    FOR EACH ROW
+    WHEN (OLD.gx_status IS DISTINCT FROM NEW.gx_status
+        OR OLD.processed_file_name IS DISTINCT FROM NEW.processed_file_name
+        OR OLD.extension IS DISTINCT FROM NEW.extension
+        OR OLD.file_size IS DISTINCT FROM NEW.file_size
+        OR OLD.gx_bucket_id IS DISTINCT FROM NEW.gx_bucket_id
+        OR OLD.error_message IS DISTINCT FROM NEW.error_message
+        OR OLD.source_file_id IS DISTINCT FROM NEW.source_file_id)
+EXECUTE FUNCTION gx_master_document_status();
+
+-- Backfill from the existing records.
+INSERT INTO document_status (file_master_id, gx_master_id, zip_file_name, display_file_name, extension, file_size,
+                             gx_bucket_id, processing_stage, source_status, display_status, error, created_at)
+SELECT fm.id, gm.id, zm.original_file_name, gm.processed_file_name, gm.extension, gm.file_size, gm.gx_bucket_id,
+       'GroundX Processing', gm.gx_status, document_status_gx_label(gm.gx_status), gm.error_message, gm.created_at
+FROM gx_master gm
+         JOIN file_master fm ON fm.id = gm.source_file_id
+         LEFT JOIN zip_master zm ON zm.id = fm.zip_master_id;
+
+INSERT INTO document_status (file_master_id, gx_master_id, zip_file_name, display_file_name, extension, file_size,
+                             gx_bucket_id, processing_stage, source_status, display_status, error, created_at)
+SELECT fm.id, NULL, zm.original_file_name, fm.file_name, fm.extension, fm.file_size, fm.gx_bucket_id, 'Ingestion',
+       fm.file_processing_status, document_status_ingestion_label(fm.file_processing_status), fm.error_message,
+       fm.created_at
+FROM file_master fm
+         LEFT JOIN zip_master zm ON zm.id = fm.zip_master_id
+WHERE fm.file_processing_status <> 'COMPLETED'
+  AND NOT EXISTS (SELECT 1 FROM gx_master gm WHERE gm.source_file_id = fm.id);
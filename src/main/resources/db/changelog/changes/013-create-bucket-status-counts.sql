@@ -0,0 +1,63 @@
+--liquibase formatted sql
+
+--changeset app.user:create-bucket-status-counts id:013 splitStatements:false
+--comment: Per-bucket document counts by stage and status, kept in step with document_status by a trigger.
+
+CREATE TABLE bucket_status_counts
+(
+    gx_bucket_id     INTEGER      NOT NULL,
+    processing_stage VARCHAR(255) NOT NULL,
+    source_status    VARCHAR(255) NOT NULL,
+    status_count     BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (gx_bucket_id, processing_stage, source_status)
+);
+
+-- A document without a status yet is counted under ''.
+CREATE OR REPLACE FUNCTION bucket_status_counts_apply(p_bucket_id INTEGER, p_stage VARCHAR, p_status VARCHAR,
+                                                      p_delta BIGINT) RETURNS VOID AS
+$$
+BEGIN
+    IF p_bucket_id IS NULL THEN
+        RETURN;
+    END IF;
+    INSERT INTO bucket_status_counts (gx_bucket_id, processing_stage, source_status, status_count)
+    VALUES (p_bucket_id, p_stage, COALESCE(p_status, ''), p_delta)
+    ON CONFLICT (gx_bucket_id, processing_stage, source_status) DO UPDATE
+        SET status_count = bucket_status_counts.status_count + EXCLUDED.status_count;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION document_status_bucket_counts() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM bucket_status_counts_apply(OLD.gx_bucket_id, OLD.processing_stage, OLD.source_status, -1);
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        PERFORM bucket_status_counts_apply(NEW.gx_bucket_id, NEW.processing_stage, NEW.source_status, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_document_status_bucket_counts_insert_delete
+    AFTER INSERT OR DELETE
+    ON document_status
+    FOR EACH ROW
+EXECUTE FUNCTION document_status_bucket_counts();
+
+CREATE TRIGGER trg_document_status_bucket_counts_update
+    AFTER UPDATE
+    ON document_status
+    FOR EACH ROW
+    WHEN (OLD.gx_bucket_id IS DISTINCT FROM NEW.gx_bucket_id
+        OR OLD.processing_stage IS DISTINCT FROM NEW.processing_stage
+        OR OLD.source_status IS DISTINCT FROM NEW.source_status)
+EXECUTE FUNCTION document_status_bucket_counts();
+
+-- Backfill from the existing documents.
+INSERT INTO bucket_status_counts (gx_bucket_id, processing_stage, source_status, status_count)
+SELECT ds.gx_bucket_id, ds.processing_stage, COALESCE(ds.source_status, ''), COUNT(*)
+FROM document_status ds
+WHERE ds.gx_bucket_id IS NOT NULL
+GROUP BY ds.gx_bucket_id, ds.processing_stage, COALESCE(ds.source_status, '');
@@ -0,0 +1,96 @@
+--liquibase formatted sql
+
+--changeset app.user:add-job-event-notifications id:014 splitStatements:false
+--comment: Publishes job, ZIP, file and GX status transitions on the job_events channel for live progress streams.
+
+-- NOTIFY is transactional: listeners only see a transition once it has been committed.
+CREATE OR REPLACE FUNCTION notify_job_event(p_job_id BIGINT, p_entity VARCHAR, p_id BIGINT, p_status VARCHAR)
+    RETURNS VOID AS
+$$
+BEGIN
+    IF p_job_id IS NULL THEN
+        RETURN;
+    END IF;
+    PERFORM pg_notify('job_events', json_build_object('jobId', p_job_id, 'entity', p_entity, 'id', p_id,
+                                                      'status', p_status)::text);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION processing_job_job_event() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM notify_job_event(NEW.id, 'JOB', NEW.id, NEW.status);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION zip_master_job_event() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM notify_job_event(NEW.processing_job_id, 'ZIP', NEW.id, NEW.zip_processing_status);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION file_master_job_event() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM notify_job_event(NEW.processing_job_id, 'FILE', NEW.id, NEW.file_processing_status);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION gx_master_job_event() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM notify_job_event((SELECT f.processing_job_id FROM file_master f WHERE f.id = NEW.source_file_id),
+                             'GX', NEW.id, NEW.gx_status);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_processing_job_job_event
+    AFTER UPDATE
+    ON processing_job
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status)
+EXECUTE FUNCTION processing_job_job_event();
+
+CREATE TRIGGER trg_zip_master_job_event_insert
+    AFTER INSERT
+    ON zip_master
+    FOR EACH ROW
+EXECUTE FUNCTION zip_master_job_event();
+
+CREATE TRIGGER trg_zip_master_job_event_update
+    AFTER UPDATE
+    ON zip_master
+    FOR EACH ROW
+    WHEN (OLD.zip_processing_status IS DISTINCT FROM NEW.zip_processing_status)
+EXECUTE FUNCTION zip_master_job_event();
+
+CREATE TRIGGER trg_file_master_job_event_insert
+    AFTER INSERT
+    ON file_master
+    FOR EACH ROW
+EXECUTE FUNCTION file_master_job_event();
+
+CREATE TRIGGER trg_file_master_job_event_update
+    AFTER UPDATE
+    ON file_master
+    FOR EACH ROW
+    WHEN (OLD.file_processing_status IS DISTINCT FROM NEW.file_processing_status)
+EXECUTE FUNCTION file_master_job_event();
+
+CREATE TRIGGER trg_gx_master_job_event_insert
+    AFTER INSERT
+    ON gx_master
+    FOR EACH ROW
+EXECUTE FUNCTION gx_master_job_event();
+
+CREATE TRIGGER trg_gx_master_job_event_update
+    AFTER UPDATE
+    ON gx_master
+    FOR EACH ROW
+    WHEN (OLD.gx_status IS DISTINCT FROM NEW.gx_status)
+EXECUTE FUNCTION gx_master_job_event();
@@ -0,0 +1,171 @@
+--liquibase formatted sql
+
+--changeset app.user:create-job-archive id:015 splitStatements:false
+--comment: Moves finalized jobs past their retention window out of the hot tables into monthly archive partitions.
+
+-- The archive tables copy the columns of their hot table, in the same order, followed by the time of archival.
+-- archive_finalized_jobs() copies rows with SELECT *, so a column added to a hot table must be added to its archive
+-- table in the same changeset.
+CREATE TABLE processing_job_archive
+(
+    LIKE processing_job,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE zip_master_archive
+(
+    LIKE zip_master,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE file_master_archive
+(
+    LIKE file_master,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE gx_master_archive
+(
+    LIKE gx_master,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+) PARTITION BY RANGE (archived_at);
+
+CREATE INDEX idx_processing_job_archive_id ON processing_job_archive (id);
+CREATE INDEX idx_zip_master_archive_job ON zip_master_archive (processing_job_id);
+CREATE INDEX idx_file_master_archive_job ON file_master_archive (processing_job_id);
+CREATE INDEX idx_gx_master_archive_source_file ON gx_master_archive (source_file_id);
+
+-- Duplicate detection falls back to archived originals, so new uploads of an archived file stay duplicates.
+CREATE INDEX idx_file_master_archive_file_hash ON file_master_archive (gx_bucket_id, file_hash)
+    WHERE file_processing_status NOT IN ('FAILED', 'IGNORED');
+
+CREATE INDEX idx_processing_job_archivable ON processing_job (updated_at)
+    WHERE status IN ('COMPLETED', 'PARTIAL_SUCCESS', 'FAILED', 'TERMINATED');
+
+-- Creates the partitions of the month containing p_at. The advisory lock serializes nodes archiving concurrently.
+CREATE OR REPLACE FUNCTION ensure_job_archive_partitions(p_at TIMESTAMP) RETURNS VOID AS
+$$
+DECLARE
+    v_from  TIMESTAMP := date_trunc('month', p_at);
+    v_to    TIMESTAMP := date_trunc('month', p_at) + INTERVAL '1 month';
+    v_table VARCHAR;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_job_archive_partitions'));
+    FOREACH v_table IN ARRAY ARRAY ['processing_job_archive', 'zip_master_archive', 'file_master_archive',
+                                    'gx_master_archive']
+        LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           v_table || '_' || to_char(v_from, 'YYYYMM'), v_table, v_from, v_to);
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Archiving deletes whole jobs, so the job_progress row is dropped with its job and no counter needs maintaining.
+CREATE OR REPLACE FUNCTION job_progress_apply(p_job_id BIGINT, p_zips INTEGER, p_files INTEGER, p_gx INTEGER)
+    RETURNS VOID AS
+$$
+BEGIN
+    IF p_job_id IS NULL OR current_setting('app.archiving', TRUE) = 'on' THEN
+        RETURN;
+    END IF;
+    INSERT INTO job_progress (job_id, pending_zips, pending_files, pending_gx, updated_at, last_child_change_at)
+    VALUES (p_job_id, p_zips, p_files, p_gx, CURRENT_TIMESTAMP, clock_timestamp())
+    ON CONFLICT (job_id) DO UPDATE
+        SET pending_zips         = job_progress.pending_zips + EXCLUDED.pending_zips,
+            pending_files        = job_progress.pending_files + EXCLUDED.pending_files,
+            pending_gx           = job_progress.pending_gx + EXCLUDED.pending_gx,
+            updated_at           = CASE
+                                       WHEN EXCLUDED.pending_zips = 0 AND EXCLUDED.pending_files = 0
+                                           AND EXCLUDED.pending_gx = 0 THEN job_progress.updated_at
+                                       ELSE CURRENT_TIMESTAMP
+                                   END,
+            last_child_change_at = clock_timestamp();
+END;
+$$ LANGUAGE plpgsql;
+
+-- While archiving, the file rows are deleted right after their GX rows and take their document_status rows with
+-- them, so the 'Ingestion' row of the file is not rebuilt.
+CREATE OR REPLACE FUNCTION gx_master_document_status() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM document_status WHERE gx_master_id = OLD.id;
+        IF current_setting('app.archiving', TRUE) IS DISTINCT FROM 'on' THEN
+            PERFORM document_status_refresh_ingestion(OLD.source_file_id);
+        END IF;
+        RETURN NULL;
+    END IF;
+    PERFORM document_status_refresh_gx(NEW.id);
+    IF TG_OP = 'INSERT' OR OLD.source_file_id IS DISTINCT FROM NEW.source_file_id THEN
+        PERFORM document_status_refresh_ingestion(NEW.source_file_id);
+    END IF;
+    IF TG_OP = 'UPDATE' AND OLD.source_file_id IS DISTINCT FROM NEW.source_file_id THEN
+        PERFORM document_status_refresh_ingestion(OLD.source_file_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Moves up to p_limit finalized jobs last updated before p_cutoff, with their ZIP, file and GX records, into the
+-- archive. Jobs with outstanding work or with children changed since the cutoff, e.g. during a retry, are skipped,
+-- as are jobs locked by another transaction. Checkpoints, bucket mappings, job_progress and document_status rows
+-- are removed by their ON DELETE CASCADE foreign keys. Returns the number of jobs archived.
+CREATE OR REPLACE FUNCTION archive_finalized_jobs(p_cutoff TIMESTAMP, p_limit INTEGER) RETURNS INTEGER AS
+$$
+DECLARE
+    v_job_ids     BIGINT[];
+    v_archived_at TIMESTAMP := CURRENT_TIMESTAMP;
+BEGIN
+    SELECT array_agg(c.id)
+    INTO v_job_ids
+    FROM (SELECT j.id
+          FROM processing_job j
+          WHERE j.status IN ('COMPLETED', 'PARTIAL_SUCCESS', 'FAILED', 'TERMINATED')
+            AND j.updated_at < p_cutoff
+            AND NOT EXISTS (SELECT 1
+                            FROM job_progress p
+                            WHERE p.job_id = j.id
+                              AND (p.pending_zips + p.pending_files + p.pending_gx > 0
+                                   OR p.last_child_change_at >= p_cutoff))
+          ORDER BY j.updated_at
+          LIMIT p_limit FOR UPDATE SKIP LOCKED) c;
+
+    IF v_job_ids IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    PERFORM ensure_job_archive_partitions(v_archived_at);
+    PERFORM set_config('app.archiving', 'on', TRUE);
+
+    WITH moved AS (DELETE FROM gx_master g
+        USING file_master f
+        WHERE f.id = g.source_file_id
+          AND f.processing_job_id = ANY (v_job_ids)
+        RETURNING g.*)
+    INSERT
+    INTO gx_master_archive
+    SELECT moved.*, v_archived_at
+    FROM moved;
+
+    WITH moved AS (DELETE FROM file_master f WHERE f.processing_job_id = ANY (v_job_ids) RETURNING f.*)
+    INSERT
+    INTO file_master_archive
+    SELECT moved.*, v_archived_at
+    FROM moved;
+
+    WITH moved AS (DELETE FROM zip_master z WHERE z.processing_job_id = ANY (v_job_ids) RETURNING z.*)
+    INSERT
+    INTO zip_master_archive
+    SELECT moved.*, v_archived_at
+    FROM moved;
+
+    WITH moved AS (DELETE FROM processing_job j WHERE j.id = ANY (v_job_ids) RETURNING j.*)
+    INSERT
+    INTO processing_job_archive
+    SELECT moved.*, v_archived_at
+    FROM moved;
+
+    PERFORM set_config('app.archiving', 'off', TRUE);
+    RETURN cardinality(v_job_ids);
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset app.user:add-archive-file-location-indexes id:016
+--comment: Lets S3 reference counting see objects still referenced by archived file_master and gx_master rows.
+
+CREATE INDEX idx_file_master_archive_file_location ON file_master_archive (file_location);
+
+CREATE INDEX idx_gx_master_archive_file_location ON gx_master_archive (file_location);
@@ -0,0 +1,36 @@
+--liquibase formatted sql
+
+--changeset app.user:require-document-created-at id:017
+--comment: Makes created_at of listed documents non-null, so every row of a bucket listing has a valid keyset position.
+
+-- Rows written before the entities set createdAt themselves fall back to their last update, or to now.
+UPDATE file_master
+SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP)
+WHERE created_at IS NULL;
+
+UPDATE gx_master
+SET created_at = CURRENT_TIMESTAMP
+WHERE created_at IS NULL;
+
+ALTER TABLE file_master
+    ALTER COLUMN created_at SET NOT NULL;
+
+ALTER TABLE gx_master
+    ALTER COLUMN created_at SET NOT NULL;
+
+-- document_status copies created_at from its source row, so bring existing rows in line with the backfill.
+UPDATE document_status ds
+SET created_at = gm.created_at
+FROM gx_master gm
+WHERE gm.id = ds.gx_master_id
+  AND ds.created_at IS NULL;
+
+UPDATE document_status ds
+SET created_at = fm.created_at
+FROM file_master fm
+WHERE fm.id = ds.file_master_id
+  AND ds.gx_master_id IS NULL
+  AND ds.created_at IS NULL;
+
+ALTER TABLE document_status
+    ALTER COLUMN created_at SET NOT NULL;
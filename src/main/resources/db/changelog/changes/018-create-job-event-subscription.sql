@@ -0,0 +1,30 @@
+--liquibase formatted sql
+
+--changeset app.user:create-job-event-subscription id:018 splitStatements:false
+--comment: Only publishes job events for jobs that currently have a live progress stream on some node.
+
+-- A job is subscribed while any node holds a progress stream for it. Nodes renew the rows of their streams on every
+-- heartbeat and never delete them, so a row lapses shortly after the last stream of the job has closed, also when
+-- its node went away without closing it.
+CREATE TABLE job_event_subscription
+(
+    job_id     BIGINT PRIMARY KEY,
+    expires_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT fk_job_event_subscription_job FOREIGN KEY (job_id) REFERENCES processing_job (id) ON DELETE CASCADE
+);
+
+-- Transitions of jobs nobody is watching are dropped here, so they never reach the channel or the listeners.
+CREATE OR REPLACE FUNCTION notify_job_event(p_job_id BIGINT, p_entity VARCHAR, p_id BIGINT, p_status VARCHAR)
+    RETURNS VOID AS
+$$
+BEGIN
+    IF p_job_id IS NULL OR NOT EXISTS (SELECT 1
+                                       FROM job_event_subscription s
+                                       WHERE s.job_id = p_job_id
+                                         AND s.expires_at > LOCALTIMESTAMP) THEN
+        RETURN;
+    END IF;
+    PERFORM pg_notify('job_events', json_build_object('jobId', p_job_id, 'entity', p_entity, 'id', p_id,
+                                                      'status', p_status)::text);
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,105 @@
+--liquibase formatted sql
+
+--changeset app.user:archive-configured-statuses id:019 splitStatements:false
+--comment: Archives only jobs in the configured statuses, cut off by the database clock, copying explicit column lists.
+
+-- The archivable statuses are now a parameter, which the partial index cannot be matched against.
+DROP INDEX idx_processing_job_archivable;
+
+CREATE INDEX idx_processing_job_status_updated_at ON processing_job (status, updated_at);
+
+DROP FUNCTION archive_finalized_jobs(TIMESTAMP, INTEGER);
+
+-- Moves up to p_limit jobs in one of p_statuses, last updated more than p_retention_days ago, with their ZIP, file
+-- and GX records, into the archive. Only COMPLETED, PARTIAL_SUCCESS, FAILED and TERMINATED jobs are ever archived,
+-- whatever p_statuses holds. Jobs with outstanding work or with children changed since the cutoff, e.g. during a
+-- retry, are skipped, as are jobs locked by another transaction. Checkpoints, bucket mappings, job_progress,
+-- job_event_subscription and document_status rows are removed by their ON DELETE CASCADE foreign keys. Returns the
+-- number of jobs archived.
+-- The columns are listed explicitly: a column added to a hot table must be added to its archive table and here.
+CREATE OR REPLACE FUNCTION archive_finalized_jobs(p_retention_days INTEGER, p_statuses VARCHAR[], p_limit INTEGER)
+    RETURNS INTEGER AS
+$$
+DECLARE
+    v_job_ids     BIGINT[];
+    v_archived_at TIMESTAMP := LOCALTIMESTAMP;
+    v_cutoff      TIMESTAMP := LOCALTIMESTAMP - make_interval(days => p_retention_days);
+BEGIN
+    SELECT array_agg(c.id)
+    INTO v_job_ids
+    FROM (SELECT j.id
+          FROM processing_job j
+          WHERE j.status = ANY (p_statuses)
+            AND j.status IN ('COMPLETED', 'PARTIAL_SUCCESS', 'FAILED', 'TERMINATED')
+            AND j.updated_at < v_cutoff
+            AND NOT EXISTS (SELECT 1
+                            FROM job_progress p
+                            WHERE p.job_id = j.id
+                              AND (p.pending_zips + p.pending_files + p.pending_gx > 0
+                                   OR p.last_child_change_at >= v_cutoff))
+          ORDER BY j.updated_at
+          LIMIT p_limit FOR UPDATE SKIP LOCKED) c;
+
+    IF v_job_ids IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    PERFORM ensure_job_archive_partitions(v_archived_at);
+    PERFORM set_config('app.archiving', 'on', TRUE);
+
+    WITH moved AS (DELETE FROM gx_master g
+        USING file_master f
+        WHERE f.id = g.source_file_id
+          AND f.processing_job_id = ANY (v_job_ids)
+        RETURNING g.id, g.source_file_id, g.gx_bucket_id, g.file_location, g.processed_file_name, g.file_size,
+            g.extension, g.gx_status, g.gx_process_id, g.error_message, g.created_at, g.upload_claimed_at,
+            g.next_poll_at, g.poll_attempts, g.gx_submitted_at, g.gx_completed_at)
+    INSERT
+    INTO gx_master_archive (id, source_file_id, gx_bucket_id, file_location, processed_file_name, file_size,
+                            extension, gx_status, gx_process_id, error_message, created_at, upload_claimed_at,
+                            next_poll_at, poll_attempts, gx_submitted_at, gx_completed_at, archived_at)
+    SELECT id, source_file_id, gx_bucket_id, file_location, processed_file_name, file_size, extension, gx_status,
+           gx_process_id, error_message, created_at, upload_claimed_at, next_poll_at, poll_attempts,
+           gx_submitted_at, gx_completed_at, v_archived_at
+    FROM moved;
+
+    WITH moved AS (DELETE FROM file_master f
+        WHERE f.processing_job_id = ANY (v_job_ids)
+        RETURNING f.id, f.zip_master_id, f.processing_job_id, f.gx_bucket_id, f.duplicate_of_file_id,
+            f.file_location, f.file_name, f.file_size, f.extension, f.file_hash, f.file_processing_status,
+            f.error_message, f.source_type, f.created_at, f.updated_at)
+    INSERT
+    INTO file_master_archive (id, zip_master_id, processing_job_id, gx_bucket_id, duplicate_of_file_id,
+                              file_location, file_name, file_size, extension, file_hash, file_processing_status,
+                              error_message, source_type, created_at, updated_at, archived_at)
+    SELECT id, zip_master_id, processing_job_id, gx_bucket_id, duplicate_of_file_id, file_location, file_name,
+           file_size, extension, file_hash, file_processing_status, error_message, source_type, created_at,
+           updated_at, v_archived_at
+    FROM moved;
+
+    WITH moved AS (DELETE FROM zip_master z
+        WHERE z.processing_job_id = ANY (v_job_ids)
+        RETURNING z.id, z.processing_job_id, z.gx_bucket_id, z.zip_processing_status, z.original_file_path,
+            z.original_file_name, z.file_size, z.error_message, z.created_at, z.updated_at)
+    INSERT
+    INTO zip_master_archive (id, processing_job_id, gx_bucket_id, zip_processing_status, original_file_path,
+                             original_file_name, file_size, error_message, created_at, updated_at, archived_at)
+    SELECT id, processing_job_id, gx_bucket_id, zip_processing_status, original_file_path, original_file_name,
+           file_size, error_message, created_at, updated_at, v_archived_at
+    FROM moved;
+
+    WITH moved AS (DELETE FROM processing_job j
+        WHERE j.id = ANY (v_job_ids)
+        RETURNING j.id, j.original_filename, j.file_location, j.status, j.current_stage, j.error_message,
+            j.created_at, j.updated_at, j.gx_bucket_id, j.skip_gx_process, j.remark)
+    INSERT
+    INTO processing_job_archive (id, original_filename, file_location, status, current_stage, error_message,
+                                 created_at, updated_at, gx_bucket_id, skip_gx_process, remark, archived_at)
+    SELECT id, original_filename, file_location, status, current_stage, error_message, created_at, updated_at,
+           gx_bucket_id, skip_gx_process, remark, v_archived_at
+    FROM moved;
+
+    PERFORM set_config('app.archiving', 'off', TRUE);
+    RETURN cardinality(v_job_ids);
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,33 @@
+--liquibase formatted sql
+
+--changeset app.user:append-bucket-status-count-deltas id:020 splitStatements:false
+--comment: Records bucket status count changes as appended deltas, rolled up into bucket_status_counts periodically.
+
+-- Updating the shared (bucket, stage, status) counter rows in place made every batch that changed documents of the
+-- same bucket and status queue behind one another, and batches that touched the counters in different orders could
+-- deadlock. Appending a delta row takes no lock another writer waits for.
+CREATE TABLE bucket_status_count_deltas
+(
+    id               BIGSERIAL PRIMARY KEY,
+    gx_bucket_id     INTEGER      NOT NULL,
+    processing_stage VARCHAR(255) NOT NULL,
+    source_status    VARCHAR(255) NOT NULL,
+    delta            BIGINT       NOT NULL
+);
+
+-- Metrics add the pending deltas of the requested buckets to the rolled-up counts.
+CREATE INDEX idx_bucket_status_count_deltas_bucket ON bucket_status_count_deltas (gx_bucket_id);
+
+-- Same signature as before, so the document_status trigger is unchanged. A document without a status yet is
+-- counted under ''.
+CREATE OR REPLACE FUNCTION bucket_status_counts_apply(p_bucket_id INTEGER, p_stage VARCHAR, p_status VARCHAR,
+                                                      p_delta BIGINT) RETURNS VOID AS
+$$
+BEGIN
+    IF p_bucket_id IS NULL THEN
+        RETURN;
+    END IF;
+    INSERT INTO bucket_status_count_deltas (gx_bucket_id, processing_stage, source_status, delta)
+    VALUES (p_bucket_id, p_stage, COALESCE(p_status, ''), p_delta);
+END;
+$$ LANGUAGE plpgsql;